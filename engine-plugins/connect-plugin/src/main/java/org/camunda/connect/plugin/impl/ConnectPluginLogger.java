@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.connect.plugin.impl;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.commons.logging.BaseLogger;
+
+public class ConnectPluginLogger extends BaseLogger {
+
+  public static final String PROJECT_CODE = "CONNECT-PLUGIN";
+
+  public static final ConnectPluginLogger LOGGER = BaseLogger.createLogger(ConnectPluginLogger.class, PROJECT_CODE, "org.camunda.connect.plugin", "01");
+
+  public void discardingConnectorResponse(String connectorId, String executionId, String activityInstanceId) {
+    logDebug(
+        "001", "Discarding response of connector '{}' since execution '{}' left activity instance '{}'", connectorId, executionId, activityInstanceId);
+  }
+
+  public void couldNotPassConnectorResponse(String connectorId, String executionId, String jobId, Exception cause) {
+    logWarn(
+        "002", "Could not pass the response of connector '{}' to execution '{}', the request is repeated by job '{}'", connectorId, executionId, jobId, cause);
+  }
+
+  public void couldNotRescheduleConnectorRequestJob(String jobId, Exception cause) {
+    logWarn(
+        "003", "Could not reschedule job '{}', the job is executed once it is due", jobId, cause);
+  }
+
+  public ProcessEngineException exceptionWhileExecutingConnectorRequest(String connectorId, Exception cause) {
+    return new ProcessEngineException(exceptionMessage(
+        "004", "Exception while executing request of connector '{}': {}", connectorId, cause.getMessage()), cause);
+  }
+
+  public void asyncConnectorRequestRejected(String connectorId, String executionId, String jobId, Exception cause) {
+    logWarn(
+        "005", "Request of connector '{}' for execution '{}' was rejected by the executor, the request is executed by job '{}' once it is due", connectorId, executionId, jobId, cause);
+  }
+
+}
@@ -17,15 +17,53 @@ package org.camunda.connect.plugin.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
 import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineCloseListener;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.jobexecutor.JobHandler;
 import org.camunda.bpm.engine.impl.util.ClassLoaderUtil;
 import org.camunda.connect.Connectors;
 
+/**
+ * Registers connectors with the process engine.
+ *
+ * <p>Requests of asynchronous connectors are delivered at least once: a request is
+ * repeated by a job if its response is not passed back within the
+ * {@link #asyncConnectorTimeout}, e.g. because the engine was restarted or the
+ * output mapping failed. Asynchronous connectors should therefore only call
+ * services which tolerate a repeated request.</p>
+ */
 public class ConnectProcessEnginePlugin extends AbstractProcessEnginePlugin {
 
+  /** number of threads executing the requests of asynchronous connectors */
+  protected int asyncConnectorPoolSize = 4;
+
+  /** number of requests of asynchronous connectors which may wait for a thread of the pool.
+   * Requests beyond are not queued but repeated by their job once the timeout is reached */
+  protected int asyncConnectorQueueSize = 100;
+
+  /** time in seconds after which an idle thread of the pool terminates */
+  protected long asyncConnectorKeepAliveTime = 60;
+
+  /** time in seconds after which the request of an asynchronous connector is repeated
+   * by a job if its response has not been passed back, e.g. because of a restart */
+  protected long asyncConnectorTimeout = 300;
+
+  protected Executor asyncConnectorExecutor;
+
+  /** whether the executor was created by this plugin and is shut down with the process engine */
+  protected boolean shutdownAsyncConnectorExecutor;
+
   @Override
   public void preInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
     // use classloader which loaded the plugin
@@ -33,6 +71,8 @@ public class ConnectProcessEnginePlugin extends AbstractProcessEnginePlugin {
     Connectors.loadConnectors(classloader);
 
     addConnectorParseListener(processEngineConfiguration);
+    addConnectorRequestJobHandler(processEngineConfiguration);
+    addAsyncConnectorExecutorShutdown(processEngineConfiguration);
   }
 
   private void addConnectorParseListener(ProcessEngineConfigurationImpl processEngineConfiguration) {
@@ -41,7 +81,93 @@ public class ConnectProcessEnginePlugin extends AbstractProcessEnginePlugin {
       preParseListeners = new ArrayList<BpmnParseListener>();
       processEngineConfiguration.setCustomPreBPMNParseListeners(preParseListeners);
     }
-    preParseListeners.add(new ConnectorParseListener());
+    preParseListeners.add(new ConnectorParseListener(getAsyncConnectorExecutor(), asyncConnectorTimeout));
+  }
+
+  private void addConnectorRequestJobHandler(ProcessEngineConfigurationImpl processEngineConfiguration) {
+    List<JobHandler> customJobHandlers = processEngineConfiguration.getCustomJobHandlers();
+    if(customJobHandlers == null) {
+      customJobHandlers = new ArrayList<JobHandler>();
+      processEngineConfiguration.setCustomJobHandlers(customJobHandlers);
+    }
+    customJobHandlers.add(new ConnectorRequestJobHandler());
+  }
+
+  private void addAsyncConnectorExecutorShutdown(ProcessEngineConfigurationImpl processEngineConfiguration) {
+    List<ProcessEngineCloseListener> closeListeners = processEngineConfiguration.getProcessEngineCloseListeners();
+    if(closeListeners == null) {
+      closeListeners = new ArrayList<ProcessEngineCloseListener>();
+      processEngineConfiguration.setProcessEngineCloseListeners(closeListeners);
+    }
+    closeListeners.add(new ProcessEngineCloseListener() {
+      public void onClose(ProcessEngine processEngine) {
+        // an executor passed to the plugin is managed by its owner
+        if (shutdownAsyncConnectorExecutor && asyncConnectorExecutor instanceof ExecutorService) {
+          ((ExecutorService) asyncConnectorExecutor).shutdown();
+        }
+      }
+    });
+  }
+
+  protected Executor createAsyncConnectorExecutor() {
+    // the bounded queue rejects requests when it is full, the requests are then repeated by their jobs
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(asyncConnectorPoolSize, asyncConnectorPoolSize,
+        asyncConnectorKeepAliveTime, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(asyncConnectorQueueSize), new ThreadFactory() {
+
+          protected final AtomicInteger threadCount = new AtomicInteger();
+
+          public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "camunda-connector-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }
+        }, new ThreadPoolExecutor.AbortPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  public Executor getAsyncConnectorExecutor() {
+    if (asyncConnectorExecutor == null) {
+      asyncConnectorExecutor = createAsyncConnectorExecutor();
+      shutdownAsyncConnectorExecutor = true;
+    }
+    return asyncConnectorExecutor;
+  }
+
+  public void setAsyncConnectorExecutor(Executor asyncConnectorExecutor) {
+    this.asyncConnectorExecutor = asyncConnectorExecutor;
+  }
+
+  public int getAsyncConnectorPoolSize() {
+    return asyncConnectorPoolSize;
+  }
+
+  public void setAsyncConnectorPoolSize(int asyncConnectorPoolSize) {
+    this.asyncConnectorPoolSize = asyncConnectorPoolSize;
+  }
+
+  public int getAsyncConnectorQueueSize() {
+    return asyncConnectorQueueSize;
+  }
+
+  public void setAsyncConnectorQueueSize(int asyncConnectorQueueSize) {
+    this.asyncConnectorQueueSize = asyncConnectorQueueSize;
+  }
+
+  public long getAsyncConnectorKeepAliveTime() {
+    return asyncConnectorKeepAliveTime;
+  }
+
+  public void setAsyncConnectorKeepAliveTime(long asyncConnectorKeepAliveTime) {
+    this.asyncConnectorKeepAliveTime = asyncConnectorKeepAliveTime;
+  }
+
+  public long getAsyncConnectorTimeout() {
+    return asyncConnectorTimeout;
+  }
+
+  public void setAsyncConnectorTimeout(long asyncConnectorTimeout) {
+    this.asyncConnectorTimeout = asyncConnectorTimeout;
   }
 
 }
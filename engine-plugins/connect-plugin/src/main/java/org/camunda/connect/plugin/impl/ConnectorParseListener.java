@@ -18,6 +18,8 @@ package org.camunda.connect.plugin.impl;
 import static org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseUtil.findCamundaExtensionElement;
 import static org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseUtil.parseInputOutput;
 
+import java.util.concurrent.Executor;
+
 import org.camunda.bpm.engine.BpmnParseException;
 import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
 import org.camunda.bpm.engine.impl.core.variable.mapping.IoMapping;
@@ -27,6 +29,22 @@ import org.camunda.bpm.engine.impl.util.xml.Element;
 
 public class ConnectorParseListener extends AbstractBpmnParseListener {
 
+  /** name of the service task extension property which makes a connector asynchronous */
+  public static final String ASYNC_PROPERTY = "connectorAsync";
+
+  protected Executor asyncExecutor;
+
+  /** time in seconds after which the request of an asynchronous connector is repeated by a job */
+  protected long asyncTimeout;
+
+  public ConnectorParseListener() {
+  }
+
+  public ConnectorParseListener(Executor asyncExecutor, long asyncTimeout) {
+    this.asyncExecutor = asyncExecutor;
+    this.asyncTimeout = asyncTimeout;
+  }
+
   @Override
   public void parseServiceTask(Element serviceTaskElement, ScopeImpl scope, ActivityImpl activity) {
     Element connectorDefinition = findCamundaExtensionElement(serviceTaskElement, "connector");
@@ -42,8 +60,26 @@ public class ConnectorParseListener extends AbstractBpmnParseListener {
       }
 
       IoMapping ioMapping = parseInputOutput(connectorDefinition);
-      activity.setActivityBehavior(new ServiceTaskConnectorActivityBehavior(connectorId, ioMapping));
+      if (isAsync(serviceTaskElement)) {
+        ConnectorRequestJobDeclaration requestJobDeclaration = new ConnectorRequestJobDeclaration(asyncTimeout);
+        requestJobDeclaration.setActivity(activity);
+        activity.setActivityBehavior(new ServiceTaskConnectorActivityBehavior(connectorId, ioMapping, asyncExecutor, requestJobDeclaration));
+      } else {
+        activity.setActivityBehavior(new ServiceTaskConnectorActivityBehavior(connectorId, ioMapping));
+      }
+    }
+  }
+
+  protected boolean isAsync(Element serviceTaskElement) {
+    Element propertiesElement = findCamundaExtensionElement(serviceTaskElement, "properties");
+    if (propertiesElement != null) {
+      for (Element propertyElement : propertiesElement.elements("property")) {
+        if (ASYNC_PROPERTY.equals(propertyElement.attribute("name"))) {
+          return Boolean.parseBoolean(propertyElement.attribute("value"));
+        }
+      }
     }
+    return false;
   }
 
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.connect.plugin.impl;
+
+import java.util.Date;
+
+import org.camunda.bpm.engine.impl.jobexecutor.JobDeclaration;
+import org.camunda.bpm.engine.impl.jobexecutor.JobHandlerConfiguration;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.MessageEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.connect.plugin.impl.ConnectorRequestJobHandler.ConnectorRequestJobConfiguration;
+
+/**
+ * Creates the job which repeats the request of an asynchronous connector
+ * once the timeout has passed without a response.
+ */
+public class ConnectorRequestJobDeclaration extends JobDeclaration<ExecutionEntity, MessageEntity> {
+
+  private static final long serialVersionUID = 1L;
+
+  /** time in seconds after which the request is repeated by the job */
+  protected long timeout;
+
+  public ConnectorRequestJobDeclaration(long timeout) {
+    super(ConnectorRequestJobHandler.TYPE);
+    this.timeout = timeout;
+  }
+
+  protected MessageEntity newJobInstance(ExecutionEntity execution) {
+    MessageEntity message = new MessageEntity();
+
+    message.setActivityId(execution.getActivityId());
+    message.setExecution(execution);
+
+    ProcessDefinitionEntity processDefinition = execution.getProcessDefinition();
+    message.setProcessDefinitionId(processDefinition.getId());
+    message.setProcessDefinitionKey(processDefinition.getKey());
+
+    return message;
+  }
+
+  protected ExecutionEntity resolveExecution(ExecutionEntity execution) {
+    return execution;
+  }
+
+  protected JobHandlerConfiguration resolveJobHandlerConfiguration(ExecutionEntity execution) {
+    return new ConnectorRequestJobConfiguration(execution.getActivityInstanceId());
+  }
+
+  public Date resolveDueDate(ExecutionEntity execution) {
+    return new Date(ClockUtil.getCurrentTime().getTime() + timeout * 1000);
+  }
+
+  public long getTimeout() {
+    return timeout;
+  }
+
+}
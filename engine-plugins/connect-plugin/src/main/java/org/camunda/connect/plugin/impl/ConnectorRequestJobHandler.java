@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.connect.plugin.impl;
+
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobHandler;
+import org.camunda.bpm.engine.impl.jobexecutor.JobHandlerConfiguration;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.pvm.delegate.ActivityBehavior;
+import org.camunda.connect.plugin.impl.ConnectorRequestJobHandler.ConnectorRequestJobConfiguration;
+
+/**
+ * Executes the request of an asynchronous connector if its response has not
+ * been passed back to the waiting execution in time, e.g. because the request
+ * was lost by a restart or the response could not be applied. The request then
+ * runs like a synchronous connector, so that failures are retried and finally
+ * raise an incident.
+ */
+public class ConnectorRequestJobHandler implements JobHandler<ConnectorRequestJobConfiguration> {
+
+  public final static String TYPE = "connector-request";
+
+  public String getType() {
+    return TYPE;
+  }
+
+  public void execute(ConnectorRequestJobConfiguration configuration, ExecutionEntity execution, CommandContext commandContext, String tenantId) {
+    // ignore the job if the execution has left the activity instance in the meantime
+    if (execution == null || !configuration.getActivityInstanceId().equals(execution.getActivityInstanceId())) {
+      return;
+    }
+
+    ActivityBehavior activityBehavior = execution.getActivity().getActivityBehavior();
+    if (activityBehavior instanceof ServiceTaskConnectorActivityBehavior) {
+      ((ServiceTaskConnectorActivityBehavior) activityBehavior).executeRequestAndLeave(execution);
+    }
+  }
+
+  public ConnectorRequestJobConfiguration newConfiguration(String canonicalString) {
+    return new ConnectorRequestJobConfiguration(canonicalString);
+  }
+
+  public void onDelete(ConnectorRequestJobConfiguration configuration, JobEntity jobEntity) {
+    // do nothing
+  }
+
+  public static class ConnectorRequestJobConfiguration implements JobHandlerConfiguration {
+
+    protected String activityInstanceId;
+
+    public ConnectorRequestJobConfiguration(String activityInstanceId) {
+      this.activityInstanceId = activityInstanceId;
+    }
+
+    public String getActivityInstanceId() {
+      return activityInstanceId;
+    }
+
+    public String toCanonicalString() {
+      return activityInstanceId;
+    }
+
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.connect.plugin.impl;
+
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * Signals an execution waiting in an asynchronous connector activity with the
+ * outcome of the connector request, i.e. the response or the exception it failed with.
+ *
+ * <p>The outcome is discarded if the execution has left the activity instance
+ * which issued the request in the meantime, e.g. because of an interrupting boundary event.</p>
+ */
+public class ConnectorResponseCmd implements Command<Boolean> {
+
+  protected String executionId;
+  protected String activityInstanceId;
+  protected Object outcome;
+
+  public ConnectorResponseCmd(String executionId, String activityInstanceId, Object outcome) {
+    this.executionId = executionId;
+    this.activityInstanceId = activityInstanceId;
+    this.outcome = outcome;
+  }
+
+  public Boolean execute(CommandContext commandContext) {
+    ExecutionEntity execution = commandContext
+      .getExecutionManager()
+      .findExecutionById(executionId);
+
+    if (execution == null || !activityInstanceId.equals(execution.getActivityInstanceId())) {
+      return false;
+    }
+
+    execution.signal(null, outcome);
+    return true;
+  }
+
+}
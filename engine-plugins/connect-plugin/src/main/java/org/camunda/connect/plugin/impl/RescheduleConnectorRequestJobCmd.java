@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.connect.plugin.impl;
+
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * Makes the request job of an asynchronous connector due immediately, so that
+ * the job executor repeats the request without waiting for the timeout.
+ */
+public class RescheduleConnectorRequestJobCmd implements Command<Void> {
+
+  protected String jobId;
+
+  public RescheduleConnectorRequestJobCmd(String jobId) {
+    this.jobId = jobId;
+  }
+
+  public Void execute(CommandContext commandContext) {
+    JobEntity job = commandContext
+      .getJobManager()
+      .findJobById(jobId);
+
+    // the job is gone if the execution has left the activity in the meantime
+    if (job != null) {
+      job.setDuedate(ClockUtil.getCurrentTime());
+    }
+
+    return null;
+  }
+
+}
@@ -15,11 +15,23 @@
  */
 package org.camunda.connect.plugin.impl;
 
+import java.util.ArrayList;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.camunda.bpm.engine.OptimisticLockingException;
 import org.camunda.bpm.engine.impl.bpmn.behavior.TaskActivityBehavior;
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.core.variable.mapping.IoMapping;
 import org.camunda.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.MessageEntity;
 import org.camunda.bpm.engine.impl.pvm.delegate.ActivityExecution;
 import org.camunda.connect.ConnectorException;
 import org.camunda.connect.Connectors;
@@ -33,6 +45,11 @@ import org.camunda.connect.spi.ConnectorResponse;
  */
 public class ServiceTaskConnectorActivityBehavior extends TaskActivityBehavior {
 
+  private final static ConnectPluginLogger LOG = ConnectPluginLogger.LOGGER;
+
+  /** the number of attempts to pass the response of an asynchronous request to the execution */
+  protected static final int RESPONSE_ATTEMPTS = 3;
+
   /** the id of the connector */
   protected String connectorId;
 
@@ -43,14 +60,33 @@ public class ServiceTaskConnectorActivityBehavior extends TaskActivityBehavior {
   /** the local ioMapping for this connector. */
   protected IoMapping ioMapping;
 
+  /** executes the connector requests of this activity if it is asynchronous, null otherwise.
+   * The execution waits in the activity until the response is available. */
+  protected Executor asyncExecutor;
+
+  /** creates the job which repeats an asynchronous request if no response is passed back in time */
+  protected ConnectorRequestJobDeclaration requestJobDeclaration;
+
   public ServiceTaskConnectorActivityBehavior(String connectorId, IoMapping ioMapping) {
+    this(connectorId, ioMapping, null, null);
+  }
+
+  public ServiceTaskConnectorActivityBehavior(String connectorId, IoMapping ioMapping, Executor asyncExecutor,
+      ConnectorRequestJobDeclaration requestJobDeclaration) {
     this.connectorId = connectorId;
     this.ioMapping = ioMapping;
+    this.asyncExecutor = asyncExecutor;
+    this.requestJobDeclaration = requestJobDeclaration;
   }
 
   public void execute(final ActivityExecution execution) throws Exception {
     ensureConnectorInitialized();
 
+    if (asyncExecutor != null) {
+      executeAsync(execution);
+      return;
+    }
+
     executeWithErrorPropagation(execution, new Callable<Void>() {
       @Override
       public Void call() throws Exception {
@@ -66,6 +102,165 @@ public class ServiceTaskConnectorActivityBehavior extends TaskActivityBehavior {
 
   }
 
+  /**
+   * Prepares the request in the current transaction and hands it over to the
+   * {@link #asyncExecutor} once the transaction has committed, i.e. once the
+   * execution is persisted in this activity. The response is passed back to
+   * the execution by a {@link ConnectorResponseCmd}.
+   *
+   * <p>A {@link ConnectorRequestJobHandler request job} is created along with
+   * the wait state. It repeats the request if the response is not passed back
+   * until the job is due, so that requests lost by a restart or rejected by the
+   * {@link #asyncExecutor} are not waited for forever. Requests are therefore
+   * executed at least once, e.g. a request is sent again if its response arrives
+   * after the job was due or its output mapping fails.</p>
+   */
+  protected void executeAsync(final ActivityExecution execution) throws Exception {
+    executeWithErrorPropagation(execution, new Callable<Void>() {
+      @Override
+      public Void call() throws Exception {
+        final ConnectorRequest<?> request = connectorInstance.createRequest();
+        applyInputParameters(execution, request);
+
+        MessageEntity requestJob = requestJobDeclaration.createJobInstance((ExecutionEntity) execution);
+        requestJob.insert();
+
+        final String executionId = execution.getId();
+        final String activityInstanceId = execution.getActivityInstanceId();
+        final String jobId = requestJob.getId();
+        final CommandExecutor commandExecutor = Context.getProcessEngineConfiguration().getCommandExecutorTxRequired();
+
+        Context.getCommandContext()
+          .getTransactionContext()
+          .addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+            @Override
+            public void execute(CommandContext commandContext) {
+              try {
+                asyncExecutor.execute(new Runnable() {
+                  @Override
+                  public void run() {
+                    executeRequest(request, commandExecutor, executionId, activityInstanceId, jobId);
+                  }
+                });
+              } catch (RejectedExecutionException e) {
+                // the executor is saturated or shut down, the request job executes the request once it is due
+                LOG.asyncConnectorRequestRejected(connectorId, executionId, jobId, e);
+              }
+            }
+          });
+        return null;
+      }
+    });
+  }
+
+  protected void executeRequest(ConnectorRequest<?> request, CommandExecutor commandExecutor,
+      String executionId, String activityInstanceId, String jobId) {
+    Object outcome;
+    try {
+      outcome = request.execute();
+    } catch (Exception e) {
+      outcome = e;
+    }
+
+    ConnectorResponseCmd responseCmd = new ConnectorResponseCmd(executionId, activityInstanceId, outcome);
+    for (int attempt = 1; ; attempt++) {
+      try {
+        boolean signaled = commandExecutor.execute(responseCmd);
+        if (!signaled) {
+          LOG.discardingConnectorResponse(connectorId, executionId, activityInstanceId);
+        }
+        return;
+
+      } catch (OptimisticLockingException e) {
+        // the execution was changed concurrently, retry with its current state
+        if (attempt >= RESPONSE_ATTEMPTS) {
+          repeatRequestByJob(commandExecutor, executionId, jobId, e);
+          return;
+        }
+
+      } catch (Exception e) {
+        repeatRequestByJob(commandExecutor, executionId, jobId, e);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Makes the request job due so that the job executor repeats the request. Failures
+   * of the repeated request are retried by the job and finally raise an incident.
+   */
+  protected void repeatRequestByJob(CommandExecutor commandExecutor, String executionId, String jobId, Exception cause) {
+    LOG.couldNotPassConnectorResponse(connectorId, executionId, jobId, cause);
+    try {
+      commandExecutor.execute(new RescheduleConnectorRequestJobCmd(jobId));
+    } catch (Exception e) {
+      LOG.couldNotRescheduleConnectorRequestJob(jobId, e);
+    }
+  }
+
+  /**
+   * Executes the request of an asynchronous connector within the current command,
+   * i.e. when it is repeated by a {@link ConnectorRequestJobHandler request job}.
+   */
+  public void executeRequestAndLeave(final ActivityExecution execution) {
+    ensureConnectorInitialized();
+
+    try {
+      executeWithErrorPropagation(execution, new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          ConnectorRequest<?> request = connectorInstance.createRequest();
+          applyInputParameters(execution, request);
+          ConnectorResponse response = request.execute();
+          applyOutputParameters(execution, response);
+          leave(execution);
+          return null;
+        }
+      });
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw LOG.exceptionWhileExecutingConnectorRequest(connectorId, e);
+    }
+  }
+
+  /**
+   * Continues an execution waiting for an asynchronous connector request. The signal data
+   * is the {@link ConnectorResponse} or the exception the request failed with.
+   */
+  @Override
+  public void signal(final ActivityExecution execution, String signalName, final Object signalData) throws Exception {
+    if (signalName != null) {
+      super.signal(execution, signalName, signalData);
+      return;
+    }
+
+    executeWithErrorPropagation(execution, new Callable<Void>() {
+      @Override
+      public Void call() throws Exception {
+        // the request does not have to be repeated anymore
+        deleteRequestJobs((ExecutionEntity) execution);
+
+        if (signalData instanceof Exception) {
+          throw (Exception) signalData;
+        }
+        if (signalData instanceof ConnectorResponse) {
+          applyOutputParameters(execution, (ConnectorResponse) signalData);
+        }
+        leave(execution);
+        return null;
+      }
+    });
+  }
+
+  protected void deleteRequestJobs(ExecutionEntity execution) {
+    for (JobEntity job : new ArrayList<JobEntity>(execution.getJobs())) {
+      if (ConnectorRequestJobHandler.TYPE.equals(job.getJobHandlerType())) {
+        job.delete();
+      }
+    }
+  }
+
   protected void applyInputParameters(ActivityExecution execution, ConnectorRequest<?> request) {
     if(ioMapping != null) {
       // create variable scope for input parameters
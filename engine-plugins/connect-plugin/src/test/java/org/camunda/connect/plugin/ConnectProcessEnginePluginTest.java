@@ -21,12 +21,19 @@ import static org.junit.Assert.assertThat;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.camunda.bpm.engine.BpmnParseException;
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.delegate.BpmnError;
 import org.camunda.bpm.engine.history.HistoricVariableInstance;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineCloseListener;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.runtime.Job;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.task.Task;
@@ -35,6 +42,8 @@ import org.camunda.connect.ConnectorException;
 import org.camunda.connect.Connectors;
 import org.camunda.connect.httpclient.HttpConnector;
 import org.camunda.connect.httpclient.soap.SoapHttpConnector;
+import org.camunda.connect.plugin.impl.ConnectProcessEnginePlugin;
+import org.camunda.connect.plugin.util.QueuedExecutor;
 import org.camunda.connect.plugin.util.TestConnector;
 import org.camunda.connect.spi.Connector;
 
@@ -99,6 +108,132 @@ public class ConnectProcessEnginePluginTest extends PluggableProcessEngineTestCa
     assertEquals(outputParamValue, variable.getValue());
   }
 
+  @Deployment
+  public void testAsyncConnectorInvoked() throws Exception {
+    String outputParamValue = "someOutputValue";
+    String inputVariableValue = "someInputVariableValue";
+
+    TestConnector.responseParameters.put("someOutputParameter", outputParamValue);
+
+    Map<String, Object> vars = new HashMap<String, Object>();
+    vars.put("someInputVariable", inputVariableValue);
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testProcess", vars);
+
+    // the execution waits for the response
+    assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("task").count());
+    Job requestJob = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+    assertNotNull(requestJob);
+    assertTrue(requestJob.getDuedate().after(ClockUtil.getCurrentTime()));
+
+    // when the request is executed
+    getConnectorExecutor().runAll();
+
+    // then the execution continues
+    assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("wait").count());
+    assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+
+    // validate input parameter
+    assertEquals(inputVariableValue, TestConnector.requestParameters.get("reqParam1"));
+
+    // validate connector output
+    VariableInstance variable = runtimeService.createVariableInstanceQuery().variableName("out1").singleResult();
+    assertNotNull(variable);
+    assertEquals(outputParamValue, variable.getValue());
+  }
+
+  @Deployment(resources = "org/camunda/connect/plugin/ConnectProcessEnginePluginTest.testAsyncConnectorInvoked.bpmn")
+  public void testAsyncConnectorRequestRepeatedByJob() {
+    String outputParamValue = "someOutputValue";
+    TestConnector.responseParameters.put("someOutputParameter", outputParamValue);
+
+    Map<String, Object> vars = new HashMap<String, Object>();
+    vars.put("someInputVariable", "someInputVariableValue");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testProcess", vars);
+
+    // given the request is lost, e.g. by a restart
+    getConnectorExecutor().clear();
+
+    // when the request job is due and executed
+    Job requestJob = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+    managementService.executeJob(requestJob.getId());
+
+    // then the request is repeated and the execution continues
+    assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("wait").count());
+
+    VariableInstance variable = runtimeService.createVariableInstanceQuery().variableName("out1").singleResult();
+    assertNotNull(variable);
+    assertEquals(outputParamValue, variable.getValue());
+  }
+
+  @Deployment(resources = "org/camunda/connect/plugin/ConnectProcessEnginePluginTest.testAsyncConnectorInvoked.bpmn")
+  public void testAsyncConnectorRequestRejectedByExecutor() {
+    Map<String, Object> vars = new HashMap<String, Object>();
+    vars.put("someInputVariable", "someInputVariableValue");
+
+    // given the executor rejects the request, e.g. because its queue is full
+    getConnectorExecutor().setRejecting(true);
+    ProcessInstance processInstance;
+    try {
+      processInstance = runtimeService.startProcessInstanceByKey("testProcess", vars);
+    } finally {
+      getConnectorExecutor().setRejecting(false);
+    }
+
+    // then the execution waits for the request job
+    assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("task").count());
+    Job requestJob = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+    assertNotNull(requestJob);
+
+    // and continues once the job repeats the request
+    managementService.executeJob(requestJob.getId());
+    assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("wait").count());
+  }
+
+  public void testAsyncConnectorExecutorShutdownOnClose() {
+    ConnectProcessEnginePlugin plugin = new ConnectProcessEnginePlugin();
+    ProcessEngineConfigurationImpl configuration = new StandaloneInMemProcessEngineConfiguration();
+    plugin.preInit(configuration);
+
+    ExecutorService executor = (ExecutorService) plugin.getAsyncConnectorExecutor();
+    assertFalse(executor.isShutdown());
+
+    // when the process engine is closed
+    for (ProcessEngineCloseListener closeListener : configuration.getProcessEngineCloseListeners()) {
+      closeListener.onClose(processEngine);
+    }
+
+    // then the executor created by the plugin is shut down
+    assertTrue(executor.isShutdown());
+  }
+
+  @Deployment
+  public void testAsyncConnectorResponseFailureRaisesIncident() {
+    Map<String, Object> vars = new HashMap<String, Object>();
+    vars.put("someInputVariable", "someInputVariableValue");
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testProcess", vars);
+
+    // when the response cannot be applied to the execution
+    getConnectorExecutor().runAll();
+
+    // then the request job is due immediately
+    Job requestJob = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+    assertNotNull(requestJob);
+    assertFalse(requestJob.getDuedate().after(ClockUtil.getCurrentTime()));
+
+    // and raises an incident once its retries are exhausted
+    for (int i = 0; i < requestJob.getRetries(); i++) {
+      try {
+        managementService.executeJob(requestJob.getId());
+        fail("exception expected");
+      } catch (ProcessEngineException e) {
+        // expected
+      }
+    }
+
+    assertEquals(1, runtimeService.createIncidentQuery().processInstanceId(processInstance.getId()).count());
+    assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("task").count());
+  }
+
   @Deployment
   public void testConnectorWithScriptInputOutputMapping() {
     int x = 3;
@@ -321,4 +456,13 @@ public class ConnectProcessEnginePluginTest extends PluggableProcessEngineTestCa
     assertEquals(outputParamValue, variable.getValue());
   }
 
+  protected QueuedExecutor getConnectorExecutor() {
+    for (ProcessEnginePlugin plugin : processEngineConfiguration.getProcessEnginePlugins()) {
+      if (plugin instanceof ConnectProcessEnginePlugin) {
+        return (QueuedExecutor) ((ConnectProcessEnginePlugin) plugin).getAsyncConnectorExecutor();
+      }
+    }
+    throw new IllegalStateException("connect plugin is not configured");
+  }
+
 }
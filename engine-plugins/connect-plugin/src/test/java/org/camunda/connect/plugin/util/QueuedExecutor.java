@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.connect.plugin.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Collects the asynchronous connector requests so that a test can run them
+ * in its own thread at a defined point.
+ */
+public class QueuedExecutor implements Executor {
+
+  protected List<Runnable> queue = new ArrayList<Runnable>();
+
+  protected boolean rejecting;
+
+  public synchronized void execute(Runnable command) {
+    if (rejecting) {
+      throw new RejectedExecutionException("queue is full");
+    }
+    queue.add(command);
+  }
+
+  public synchronized void setRejecting(boolean rejecting) {
+    this.rejecting = rejecting;
+  }
+
+  public void runAll() {
+    List<Runnable> commands;
+    synchronized (this) {
+      commands = new ArrayList<Runnable>(queue);
+      queue.clear();
+    }
+    for (Runnable command : commands) {
+      command.run();
+    }
+  }
+
+  public synchronized int size() {
+    return queue.size();
+  }
+
+  public synchronized void clear() {
+    queue.clear();
+  }
+
+}
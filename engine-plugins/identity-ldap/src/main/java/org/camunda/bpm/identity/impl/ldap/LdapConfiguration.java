@@ -66,6 +66,13 @@ public class LdapConfiguration {
 
   protected boolean authorizationCheckEnabled = true;
 
+  protected boolean useConnectionPooling = false;
+
+  /** maximum number of cached user and group lookups, a value of 0 disables the cache */
+  protected int lookupCacheSize = 0;
+  /** time in milliseconds after which a cached lookup expires */
+  protected long lookupCacheTimeToLive = 5 * 60 * 1000;
+
   // getters / setters //////////////////////////////////////
 
   public String getInitialContextFactory() {
@@ -283,4 +290,37 @@ public class LdapConfiguration {
     this.authorizationCheckEnabled = authorizationCheckEnabled;
   }
 
+  public boolean isUseConnectionPooling() {
+    return useConnectionPooling;
+  }
+
+  /**
+   * Enables the connection pool of the JNDI LDAP provider for the manager context.
+   * Note that the JNDI provider pools plain connections only unless the
+   * <code>com.sun.jndi.ldap.connect.pool.protocol</code> system property includes <code>ssl</code>.
+   */
+  public void setUseConnectionPooling(boolean useConnectionPooling) {
+    this.useConnectionPooling = useConnectionPooling;
+  }
+
+  public int getLookupCacheSize() {
+    return lookupCacheSize;
+  }
+
+  public void setLookupCacheSize(int lookupCacheSize) {
+    this.lookupCacheSize = lookupCacheSize;
+  }
+
+  public long getLookupCacheTimeToLive() {
+    return lookupCacheTimeToLive;
+  }
+
+  public void setLookupCacheTimeToLive(long lookupCacheTimeToLive) {
+    this.lookupCacheTimeToLive = lookupCacheTimeToLive;
+  }
+
+  public boolean isLookupCacheEnabled() {
+    return lookupCacheSize > 0 && lookupCacheTimeToLive > 0;
+  }
+
 }
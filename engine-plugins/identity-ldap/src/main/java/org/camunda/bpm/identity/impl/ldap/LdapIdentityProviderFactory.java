@@ -18,6 +18,7 @@ package org.camunda.bpm.identity.impl.ldap;
 import org.camunda.bpm.engine.impl.identity.ReadOnlyIdentityProvider;
 import org.camunda.bpm.engine.impl.interceptor.Session;
 import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
+import org.camunda.bpm.identity.impl.ldap.util.LdapLookupCache;
 
 /**
  * @author Daniel Meyer
@@ -26,13 +27,16 @@ import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
 public class LdapIdentityProviderFactory implements SessionFactory {
 
   protected LdapConfiguration ldapConfiguration;
-  
+
+  protected LdapLookupCache<LdapUserEntity> userLookupCache;
+  protected LdapLookupCache<LdapGroupEntity> groupLookupCache;
+
   public Class<?> getSessionType() {
     return ReadOnlyIdentityProvider.class;
   }
 
   public Session openSession() {
-    return new LdapIdentityProviderSession(ldapConfiguration);
+    return new LdapIdentityProviderSession(ldapConfiguration, userLookupCache, groupLookupCache);
   }
   
   public LdapConfiguration getLdapConfiguration() {
@@ -41,6 +45,27 @@ public class LdapIdentityProviderFactory implements SessionFactory {
   
   public void setLdapConfiguration(LdapConfiguration ldapConfiguration) {
     this.ldapConfiguration = ldapConfiguration;
+    initLookupCaches();
+  }
+
+  protected void initLookupCaches() {
+    if (ldapConfiguration != null && ldapConfiguration.isLookupCacheEnabled()) {
+      int size = ldapConfiguration.getLookupCacheSize();
+      long timeToLive = ldapConfiguration.getLookupCacheTimeToLive();
+      userLookupCache = new LdapLookupCache<LdapUserEntity>(size, timeToLive);
+      groupLookupCache = new LdapLookupCache<LdapGroupEntity>(size, timeToLive);
+    } else {
+      userLookupCache = null;
+      groupLookupCache = null;
+    }
+  }
+
+  public LdapLookupCache<LdapUserEntity> getUserLookupCache() {
+    return userLookupCache;
+  }
+
+  public LdapLookupCache<LdapGroupEntity> getGroupLookupCache() {
+    return groupLookupCache;
   }
 
 }
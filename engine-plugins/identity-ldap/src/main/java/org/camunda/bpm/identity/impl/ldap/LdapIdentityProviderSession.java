@@ -58,6 +58,7 @@ import org.camunda.bpm.engine.impl.identity.ReadOnlyIdentityProvider;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.entity.GroupEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.UserEntity;
+import org.camunda.bpm.identity.impl.ldap.util.LdapLookupCache;
 import org.camunda.bpm.identity.impl.ldap.util.LdapPluginLogger;
 
 /**
@@ -73,8 +74,18 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
   protected LdapConfiguration ldapConfiguration;
   protected LdapContext initialContext;
 
+  protected LdapLookupCache<LdapUserEntity> userLookupCache;
+  protected LdapLookupCache<LdapGroupEntity> groupLookupCache;
+
   public LdapIdentityProviderSession(LdapConfiguration ldapConfiguration) {
+    this(ldapConfiguration, null, null);
+  }
+
+  public LdapIdentityProviderSession(LdapConfiguration ldapConfiguration,
+      LdapLookupCache<LdapUserEntity> userLookupCache, LdapLookupCache<LdapGroupEntity> groupLookupCache) {
     this.ldapConfiguration = ldapConfiguration;
+    this.userLookupCache = userLookupCache;
+    this.groupLookupCache = groupLookupCache;
   }
 
   // Session Lifecycle //////////////////////////////////
@@ -84,9 +95,14 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
   }
 
   public void close() {
-    if (initialContext != null) {
+    closeContext(initialContext);
+    initialContext = null;
+  }
+
+  protected void closeContext(LdapContext context) {
+    if (context != null) {
       try {
-        initialContext.close();
+        context.close();
       } catch (Exception e) {
         // ignore
         LdapPluginLogger.INSTANCE.exceptionWhenClosingLdapCOntext(e);
@@ -95,6 +111,14 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
   }
 
   protected InitialLdapContext openContext(String userDn, String password) {
+    return openContext(userDn, password, false);
+  }
+
+  /**
+   * @param pooled whether the connection may be taken from the connection pool of
+   *   the JNDI LDAP provider; closing the context then returns the connection to the pool
+   */
+  protected InitialLdapContext openContext(String userDn, String password, boolean pooled) {
     Hashtable<String, String> env = new Hashtable<>();
     env.put(Context.INITIAL_CONTEXT_FACTORY, ldapConfiguration.getInitialContextFactory());
     env.put(Context.SECURITY_AUTHENTICATION, ldapConfiguration.getSecurityAuthentication());
@@ -117,6 +141,10 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
       env.putAll(contextProperties);
     }
 
+    if(pooled) {
+      env.put("com.sun.jndi.ldap.connect.pool", "true");
+    }
+
     try {
       return new InitialLdapContext(env, null);
 
@@ -131,16 +159,30 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
   protected void ensureContextInitialized() {
     if(initialContext == null) {
-      initialContext = openContext(ldapConfiguration.getManagerDn(), ldapConfiguration.getManagerPassword());
+      initialContext = openContext(ldapConfiguration.getManagerDn(), ldapConfiguration.getManagerPassword(),
+          ldapConfiguration.isUseConnectionPooling());
     }
   }
 
   // Users /////////////////////////////////////////////////
 
   public User findUserById(String userId) {
-    return createUserQuery(org.camunda.bpm.engine.impl.context.Context.getCommandContext())
+    if (userLookupCache != null) {
+      LdapUserEntity cachedUser = userLookupCache.get(userId);
+      if (cachedUser != null) {
+        // the cache is shared between users, so the authorization check is repeated
+        return isAuthenticatedUser(cachedUser) || isAuthorized(READ, USER, cachedUser.getId()) ? cachedUser : null;
+      }
+    }
+
+    User user = createUserQuery(org.camunda.bpm.engine.impl.context.Context.getCommandContext())
       .userId(userId)
       .singleResult();
+
+    if (userLookupCache != null && user != null) {
+      userLookupCache.put(userId, (LdapUserEntity) user);
+    }
+    return user;
   }
 
   public UserQuery createUserQuery() {
@@ -337,7 +379,7 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
 
       try {
         // bind authenticate for user + supplied password
-        openContext(user.getDn(), password);
+        closeContext(openContext(user.getDn(), password));
         return true;
 
       } catch(LdapAuthenticationException e) {
@@ -396,9 +438,21 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
   // Groups ///////////////////////////////////////////////
 
   public Group findGroupById(String groupId) {
-    return createGroupQuery(org.camunda.bpm.engine.impl.context.Context.getCommandContext())
+    if (groupLookupCache != null) {
+      LdapGroupEntity cachedGroup = groupLookupCache.get(groupId);
+      if (cachedGroup != null) {
+        return isAuthorized(READ, GROUP, cachedGroup.getId()) ? cachedGroup : null;
+      }
+    }
+
+    Group group = createGroupQuery(org.camunda.bpm.engine.impl.context.Context.getCommandContext())
       .groupId(groupId)
       .singleResult();
+
+    if (groupLookupCache != null && group != null) {
+      groupLookupCache.put(groupId, (LdapGroupEntity) group);
+    }
+    return group;
   }
 
   public GroupQuery createGroupQuery() {
@@ -535,9 +589,7 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
   // Utils ////////////////////////////////////////////
 
   protected String getDnForUser(String userId) {
-    LdapUserEntity user = (LdapUserEntity) createUserQuery(org.camunda.bpm.engine.impl.context.Context.getCommandContext())
-      .userId(userId)
-      .singleResult();
+    LdapUserEntity user = (LdapUserEntity) findUserById(userId);
     if(user == null) {
       return "";
     } else {
@@ -546,9 +598,7 @@ public class LdapIdentityProviderSession implements ReadOnlyIdentityProvider {
   }
 
   protected String getDnForGroup(String groupId) {
-    LdapGroupEntity group = (LdapGroupEntity) createGroupQuery(org.camunda.bpm.engine.impl.context.Context.getCommandContext())
-      .groupId(groupId)
-      .singleResult();
+    LdapGroupEntity group = (LdapGroupEntity) findGroupById(groupId);
     if(group == null) {
       return "";
     } else {
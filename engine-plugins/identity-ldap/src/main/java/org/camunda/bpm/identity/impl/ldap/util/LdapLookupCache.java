@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.identity.impl.ldap.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * <p>Size-limited cache of LDAP lookup results which are valid for a limited
+ * amount of time. The cache is shared by all sessions of a process engine
+ * and is therefore thread safe.</p>
+ *
+ * <p>When the cache is full, the least recently used entry is evicted.
+ * Expired entries are removed on access.</p>
+ *
+ * @param <V> the type of the cached values
+ */
+public class LdapLookupCache<V> {
+
+  protected final int capacity;
+  protected final long timeToLive;
+
+  protected final Map<String, CacheEntry<V>> entries;
+
+  protected final AtomicLong hitCount = new AtomicLong();
+  protected final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * @param capacity the maximum number of cached entries
+   * @param timeToLive the time in milliseconds after which an entry expires
+   */
+  public LdapLookupCache(final int capacity, long timeToLive) {
+    this.capacity = capacity;
+    this.timeToLive = timeToLive;
+    this.entries = new LinkedHashMap<String, CacheEntry<V>>(16, 0.75f, true) {
+
+      private static final long serialVersionUID = 1L;
+
+      protected boolean removeEldestEntry(Map.Entry<String, CacheEntry<V>> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * @return the cached value or null if there is no valid entry for the key
+   */
+  public V get(String key) {
+    if (key == null) {
+      return null;
+    }
+
+    CacheEntry<V> entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+      if (entry != null && entry.isExpired(now())) {
+        entries.remove(key);
+        entry = null;
+      }
+    }
+
+    if (entry == null) {
+      missCount.incrementAndGet();
+      return null;
+    } else {
+      hitCount.incrementAndGet();
+      return entry.getValue();
+    }
+  }
+
+  public void put(String key, V value) {
+    if (key == null || value == null) {
+      return;
+    }
+
+    CacheEntry<V> entry = new CacheEntry<V>(value, now() + timeToLive);
+    synchronized (entries) {
+      entries.put(key, entry);
+    }
+  }
+
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * @return the ratio of lookups answered from the cache, or 0 if there was no lookup yet
+   */
+  public double getHitRate() {
+    long hits = hitCount.get();
+    long lookups = hits + missCount.get();
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+
+  protected long now() {
+    return ClockUtil.getCurrentTime().getTime();
+  }
+
+  protected static class CacheEntry<V> {
+
+    protected final V value;
+    protected final long expirationTime;
+
+    public CacheEntry(V value, long expirationTime) {
+      this.value = value;
+      this.expirationTime = expirationTime;
+    }
+
+    public V getValue() {
+      return value;
+    }
+
+    public boolean isExpired(long currentTime) {
+      return currentTime >= expirationTime;
+    }
+  }
+
+}
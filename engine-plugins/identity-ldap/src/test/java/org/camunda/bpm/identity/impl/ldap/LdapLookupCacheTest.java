@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.identity.impl.ldap;
+
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.identity.Group;
+import org.camunda.bpm.engine.impl.test.ResourceProcessEngineTestCase;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.identity.impl.ldap.util.LdapLookupCache;
+
+/**
+ * Represents a test case where the lookup cache is enabled.
+ */
+public class LdapLookupCacheTest extends ResourceProcessEngineTestCase {
+
+  public LdapLookupCacheTest() {
+    super("camunda.ldap.lookup.cache.cfg.xml");
+  }
+
+  protected static LdapTestEnvironment ldapTestEnvironment;
+
+  protected LdapLookupCache<LdapUserEntity> userLookupCache;
+  protected LdapLookupCache<LdapGroupEntity> groupLookupCache;
+
+  @Override
+  protected void setUp() throws Exception {
+    if(ldapTestEnvironment == null) {
+      ldapTestEnvironment = new LdapTestEnvironment();
+      ldapTestEnvironment.init();
+    }
+    super.setUp();
+
+    LdapIdentityProviderFactory factory = (LdapIdentityProviderFactory) processEngineConfiguration.getIdentityProviderSessionFactory();
+    userLookupCache = factory.getUserLookupCache();
+    groupLookupCache = factory.getGroupLookupCache();
+    userLookupCache.clear();
+    groupLookupCache.clear();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    ClockUtil.reset();
+    if(ldapTestEnvironment != null) {
+      ldapTestEnvironment.shutdown();
+      ldapTestEnvironment = null;
+    }
+    super.tearDown();
+  }
+
+  public void testCacheUserLookup() {
+    long hits = userLookupCache.getHitCount();
+
+    identityService.checkPassword("daniel", "daniel");
+    assertEquals(hits, userLookupCache.getHitCount());
+    assertEquals(1, userLookupCache.size());
+
+    identityService.checkPassword("daniel", "daniel");
+    assertEquals(hits + 1, userLookupCache.getHitCount());
+  }
+
+  public void testCacheUserLookupForMembershipQuery() {
+    identityService.checkPassword("daniel", "daniel");
+    long hits = userLookupCache.getHitCount();
+
+    // the DN of the member is resolved from the cache
+    List<Group> groups = identityService.createGroupQuery().groupMember("daniel").list();
+
+    assertEquals(3, groups.size());
+    assertEquals(hits + 1, userLookupCache.getHitCount());
+    assertTrue(userLookupCache.getHitRate() > 0);
+  }
+
+  public void testCachedLookupExpires() {
+    Date now = new Date();
+    ClockUtil.setCurrentTime(now);
+    identityService.checkPassword("daniel", "daniel");
+    long misses = userLookupCache.getMissCount();
+
+    ClockUtil.setCurrentTime(new Date(now.getTime() + 60001));
+    identityService.checkPassword("daniel", "daniel");
+
+    assertEquals(misses + 1, userLookupCache.getMissCount());
+  }
+
+  public void testEvictLeastRecentlyUsedLookup() {
+    LdapLookupCache<String> cache = new LdapLookupCache<String>(2, 60000);
+    cache.put("a", "dnA");
+    cache.put("b", "dnB");
+    cache.get("a");
+    cache.put("c", "dnC");
+
+    assertEquals(2, cache.size());
+    assertEquals("dnA", cache.get("a"));
+    assertNull(cache.get("b"));
+    assertEquals("dnC", cache.get("c"));
+  }
+
+}
@@ -15,12 +15,14 @@
  */
 package org.camunda.spin.plugin.impl;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.util.IoUtil;
@@ -44,6 +46,13 @@ public class SpinObjectValueSerializer extends AbstractObjectValueSerializer {
   protected String name;
   protected DataFormat<?> dataFormat;
 
+  /**
+   * Canonical type names of classes whose type name does not depend on the
+   * object's content. Weak keys so that process application classes can be
+   * unloaded on undeployment.
+   */
+  protected Map<Class<?>, String> typeNameCache = Collections.synchronizedMap(new WeakHashMap<Class<?>, String>());
+
   public SpinObjectValueSerializer(String name, DataFormat<?> dataFormat) {
     super(dataFormat.getName());
     this.name = name;
@@ -60,26 +69,57 @@ public class SpinObjectValueSerializer extends AbstractObjectValueSerializer {
   }
 
   protected String getTypeNameForDeserialized(Object deserializedObject) {
-    return dataFormat.getMapper().getCanonicalTypeName(deserializedObject);
+    Class<?> type = deserializedObject.getClass();
+    if (!isTypeNameCacheable(type)) {
+      return dataFormat.getMapper().getCanonicalTypeName(deserializedObject);
+    }
+
+    String typeName = typeNameCache.get(type);
+    if (typeName == null) {
+      typeName = dataFormat.getMapper().getCanonicalTypeName(deserializedObject);
+      if (!hasTypeArguments(typeName)) {
+        typeNameCache.put(type, typeName);
+      }
+    }
+    return typeName;
+  }
+
+  /**
+   * The type name of generic classes, arrays, collections and maps may be
+   * derived from their elements and is therefore never cached. This includes
+   * non-generic subclasses of {@link Collection} and {@link Map}.
+   */
+  protected boolean isTypeNameCacheable(Class<?> type) {
+    return !type.isArray()
+        && type.getTypeParameters().length == 0
+        && !Collection.class.isAssignableFrom(type)
+        && !Map.class.isAssignableFrom(type);
+  }
+
+  /**
+   * A type name with type arguments was derived from the object's content
+   * by a type detector and must not be reused for other objects of the class.
+   */
+  protected boolean hasTypeArguments(String typeName) {
+    return typeName.indexOf('<') >= 0;
   }
 
   protected byte[] serializeToByteArray(Object deserializedObject) throws Exception {
     DataFormatMapper mapper = dataFormat.getMapper();
     DataFormatWriter writer = dataFormat.getWriter();
 
+    // the stream writer buffers the encoded output itself, no need for another buffer
     ByteArrayOutputStream out = new ByteArrayOutputStream();
     OutputStreamWriter outWriter = new OutputStreamWriter(out, Context.getProcessEngineConfiguration().getDefaultCharset());
-    BufferedWriter bufferedWriter = new BufferedWriter(outWriter);
 
     try {
       Object mappedObject = mapper.mapJavaToInternal(deserializedObject);
-      writer.writeToWriter(bufferedWriter, mappedObject);
+      writer.writeToWriter(outWriter, mappedObject);
+      outWriter.flush();
       return out.toByteArray();
     }
     finally {
-      IoUtil.closeSilently(out);
       IoUtil.closeSilently(outWriter);
-      IoUtil.closeSilently(bufferedWriter);
     }
   }
 
@@ -89,16 +129,13 @@ public class SpinObjectValueSerializer extends AbstractObjectValueSerializer {
 
     ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
     InputStreamReader inReader = new InputStreamReader(bais, Context.getProcessEngineConfiguration().getDefaultCharset());
-    BufferedReader bufferedReader = new BufferedReader(inReader);
 
     try {
-      Object mappedObject = reader.readInput(bufferedReader);
+      Object mappedObject = reader.readInput(inReader);
       return mapper.mapInternalToJava(mappedObject, objectTypeName);
     }
     finally{
-      IoUtil.closeSilently(bais);
       IoUtil.closeSilently(inReader);
-      IoUtil.closeSilently(bufferedReader);
     }
   }
 
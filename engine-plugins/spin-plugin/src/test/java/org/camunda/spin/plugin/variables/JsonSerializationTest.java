@@ -106,6 +106,49 @@ public class JsonSerializationTest extends PluggableProcessEngineTestCase {
 
   }
 
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testListTypeNameDependsOnElements() {
+    ProcessInstance instance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    List<JsonSerializable> beans = new ArrayList<JsonSerializable>();
+    beans.add(new JsonSerializable("a String", 42, true));
+    List<String> strings = new ArrayList<String>();
+    strings.add("a String");
+
+    runtimeService.setVariable(instance.getId(), "beans", objectValue(beans).serializationDataFormat(JSON_FORMAT_NAME).create());
+    runtimeService.setVariable(instance.getId(), "strings", objectValue(strings).serializationDataFormat(JSON_FORMAT_NAME).create());
+
+    ObjectValue typedBeans = runtimeService.getVariableTyped(instance.getId(), "beans");
+    ObjectValue typedStrings = runtimeService.getVariableTyped(instance.getId(), "strings");
+    assertFalse(typedBeans.getObjectTypeName().equals(typedStrings.getObjectTypeName()));
+    assertEquals(beans, typedBeans.getValue());
+    assertEquals(strings, typedStrings.getValue());
+  }
+
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testListSubclassTypeNameDependsOnElements() {
+    ProcessInstance instance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    ObjectList beans = new ObjectList();
+    beans.add(new JsonSerializable("a String", 42, true));
+    ObjectList strings = new ObjectList();
+    strings.add("a String");
+
+    runtimeService.setVariable(instance.getId(), "beans", objectValue(beans).serializationDataFormat(JSON_FORMAT_NAME).create());
+    runtimeService.setVariable(instance.getId(), "strings", objectValue(strings).serializationDataFormat(JSON_FORMAT_NAME).create());
+
+    ObjectValue typedBeans = runtimeService.getVariableTyped(instance.getId(), "beans", false);
+    ObjectValue typedStrings = runtimeService.getVariableTyped(instance.getId(), "strings", false);
+    assertTrue(typedBeans.getObjectTypeName().contains(JsonSerializable.class.getName()));
+    assertTrue(typedStrings.getObjectTypeName().contains(String.class.getName()));
+  }
+
+  public static class ObjectList extends ArrayList<Object> {
+
+    private static final long serialVersionUID = 1L;
+
+  }
+
   @Deployment(resources = ONE_TASK_PROCESS)
   public void testFailingSerialization() {
     ProcessInstance instance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
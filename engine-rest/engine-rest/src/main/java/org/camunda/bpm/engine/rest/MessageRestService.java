@@ -15,14 +15,18 @@
  */
 package org.camunda.bpm.engine.rest;
 
+import org.camunda.bpm.engine.rest.dto.BulkItemResultDto;
 import org.camunda.bpm.engine.rest.dto.message.CorrelationMessageDto;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
+import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import java.util.List;
+
 @Produces(MediaType.APPLICATION_JSON)
 public interface MessageRestService {
 
@@ -32,4 +36,14 @@ public interface MessageRestService {
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
   Response deliverMessage(CorrelationMessageDto messageDto);
+
+  /**
+   * Correlates each of the given messages in its own transaction. A failing
+   * correlation does not affect the others; its error is returned in the item result.
+   */
+  @POST
+  @Path("/bulk")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  List<BulkItemResultDto> deliverMessages(List<CorrelationMessageDto> messageDtos);
 }
@@ -15,7 +15,9 @@
  */
 package org.camunda.bpm.engine.rest;
 
+import org.camunda.bpm.engine.rest.dto.BulkItemResultDto;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.task.BulkCompleteTaskDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskQueryDto;
 import org.camunda.bpm.engine.rest.hal.Hal;
@@ -72,6 +74,16 @@ public interface TaskRestService {
   @Consumes(MediaType.APPLICATION_JSON)
   void createTask(TaskDto taskDto);
 
+  /**
+   * Completes each of the given tasks in its own transaction. A failing task
+   * does not affect the others; its error is returned in the item result.
+   */
+  @POST
+  @Path("/complete")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  List<BulkItemResultDto> completeTasks(List<BulkCompleteTaskDto> completeTaskDtos);
+
   @Path("/report")
   TaskReportResource getTaskReportResource();
 
@@ -0,0 +1,32 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.cache;
+
+/**
+ * A {@link Cache} that supports removing single resources before they expire.
+ * Caches that do not implement this interface are only cleaned up by their
+ * own expiry.
+ */
+public interface EvictableCache extends Cache {
+
+  /**
+   * Remove a resource from the cache, e.g. because it was changed or deleted.
+   *
+   * @param id the id of the resource
+   */
+  void remove(String id);
+
+}
@@ -92,6 +92,13 @@ public abstract class AbstractQueryDto<T extends Query<?, ?>>  extends AbstractS
     return sortings;
   }
 
+  /**
+   * @return true if the query specifies any sorting
+   */
+  public boolean hasSortingOptions() {
+    return sortBy != null || (sortings != null && !sortings.isEmpty());
+  }
+
   protected abstract boolean isValidSortByValue(String value);
 
   protected boolean sortOptionsValid() {
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.dto;
+
+import javax.ws.rs.core.Response;
+
+import org.camunda.bpm.engine.rest.exception.ExceptionHandlerHelper;
+
+/**
+ * The result of a single item of a bulk request. Carries the status and the
+ * response body the item would have produced as a single request.
+ */
+public class BulkItemResultDto {
+
+  protected int status;
+  protected Object result;
+  protected ExceptionDto exception;
+
+  public int getStatus() {
+    return status;
+  }
+
+  public void setStatus(int status) {
+    this.status = status;
+  }
+
+  public Object getResult() {
+    return result;
+  }
+
+  public void setResult(Object result) {
+    this.result = result;
+  }
+
+  public ExceptionDto getException() {
+    return exception;
+  }
+
+  public void setException(ExceptionDto exception) {
+    this.exception = exception;
+  }
+
+  public static BulkItemResultDto fromResponse(Response response) {
+    BulkItemResultDto dto = new BulkItemResultDto();
+    dto.status = response.getStatus();
+    dto.result = response.getEntity();
+    return dto;
+  }
+
+  public static BulkItemResultDto fromException(Throwable e) {
+    ExceptionHandlerHelper helper = ExceptionHandlerHelper.getInstance();
+
+    BulkItemResultDto dto = new BulkItemResultDto();
+    dto.status = helper.getStatus(e).getStatusCode();
+    dto.exception = helper.fromException(e);
+    return dto;
+  }
+
+}
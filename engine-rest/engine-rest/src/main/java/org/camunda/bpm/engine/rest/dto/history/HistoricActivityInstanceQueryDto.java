@@ -65,6 +65,7 @@ public class HistoricActivityInstanceQueryDto extends AbstractQueryDto<HistoricA
   }
 
   private String activityInstanceId;
+  private String activityInstanceIdAfter;
   private String processInstanceId;
   private String processDefinitionId;
   private String executionId;
@@ -94,6 +95,11 @@ public class HistoricActivityInstanceQueryDto extends AbstractQueryDto<HistoricA
     this.activityInstanceId = activityInstanceId;
   }
 
+  @CamundaQueryParam("activityInstanceIdAfter")
+  public void setActivityInstanceIdAfter(String activityInstanceIdAfter) {
+    this.activityInstanceIdAfter = activityInstanceIdAfter;
+  }
+
   @CamundaQueryParam("processInstanceId")
   public void setProcessInstanceId(String processInstanceId) {
     this.processInstanceId = processInstanceId;
@@ -189,6 +195,9 @@ public class HistoricActivityInstanceQueryDto extends AbstractQueryDto<HistoricA
     if (activityInstanceId != null) {
       query.activityInstanceId(activityInstanceId);
     }
+    if (activityInstanceIdAfter != null) {
+      query.activityInstanceIdAfter(activityInstanceIdAfter);
+    }
     if (processInstanceId != null) {
       query.processInstanceId(processInstanceId);
     }
@@ -67,6 +67,7 @@ public class HistoricProcessInstanceQueryDto extends AbstractQueryDto<HistoricPr
   }
 
   private String processInstanceId;
+  private String processInstanceIdAfter;
   private Set<String> processInstanceIds;
   private String processDefinitionId;
   private String processDefinitionKey;
@@ -121,6 +122,11 @@ public class HistoricProcessInstanceQueryDto extends AbstractQueryDto<HistoricPr
     this.processInstanceId = processInstanceId;
   }
 
+  @CamundaQueryParam("processInstanceIdAfter")
+  public void setProcessInstanceIdAfter(String processInstanceIdAfter) {
+    this.processInstanceIdAfter = processInstanceIdAfter;
+  }
+
   @CamundaQueryParam(value = "processInstanceIds", converter = StringSetConverter.class)
   public void setProcessInstanceIds(Set<String> processInstanceIds) {
     this.processInstanceIds = processInstanceIds;
@@ -350,6 +356,9 @@ public class HistoricProcessInstanceQueryDto extends AbstractQueryDto<HistoricPr
     if (processInstanceId != null) {
       query.processInstanceId(processInstanceId);
     }
+    if (processInstanceIdAfter != null) {
+      query.processInstanceIdAfter(processInstanceIdAfter);
+    }
     if (processInstanceIds != null) {
       query.processInstanceIds(processInstanceIds);
     }
@@ -26,6 +26,7 @@ import org.camunda.bpm.engine.rest.IdentityRestService;
 import org.camunda.bpm.engine.rest.ProcessDefinitionRestService;
 import org.camunda.bpm.engine.rest.UserRestService;
 import org.camunda.bpm.engine.rest.cache.Cache;
+import org.camunda.bpm.engine.rest.cache.EvictableCache;
 import org.camunda.bpm.engine.rest.hal.caseDefinition.HalCaseDefinitionResolver;
 import org.camunda.bpm.engine.rest.hal.group.HalGroupResolver;
 import org.camunda.bpm.engine.rest.hal.identitylink.HalIdentityLinkResolver;
@@ -75,6 +76,18 @@ public class Hal {
     return halRelationCaches.get(resourceClass);
   }
 
+  /**
+   * Removes the resource with the given id from the cache for the resource class, if
+   * the configured cache is an {@link EvictableCache}. Used to invalidate entries when the
+   * resource is changed or deleted instead of waiting for them to expire.
+   */
+  public void evictHalRelationCacheEntry(Class<?> resourceClass, String id) {
+    Cache cache = getHalRelationCache(resourceClass);
+    if (cache instanceof EvictableCache) {
+      ((EvictableCache) cache).remove(id);
+    }
+  }
+
   public void destroyHalRelationCaches() {
     for (Cache cache : halRelationCaches.values()) {
       cache.destroy();
@@ -24,9 +24,9 @@ import java.util.NavigableSet;
 import java.util.TreeSet;
 
 import org.camunda.bpm.engine.impl.util.ClockUtil;
-import org.camunda.bpm.engine.rest.cache.Cache;
+import org.camunda.bpm.engine.rest.cache.EvictableCache;
 
-public class DefaultHalResourceCache implements Cache {
+public class DefaultHalResourceCache implements EvictableCache {
 
   public final static Comparator<HalResourceCacheEntry> COMPARATOR = HalResourceCacheEntryComparator.getInstance();
 
@@ -60,20 +60,20 @@ public class DefaultHalResourceCache implements Cache {
     this.secondsToLive = secondsToLive;
   }
 
-  public int size() {
+  public synchronized int size() {
     return cache.size();
   }
 
-  public void put(String id, Object resource) {
+  public synchronized void put(String id, Object resource) {
     cache.put(id, new HalResourceCacheEntry(id, resource));
     ensureCapacityLimit();
   }
 
-  public void remove(String id) {
+  public synchronized void remove(String id) {
     cache.remove(id);
   }
 
-  public Object get(String id) {
+  public synchronized Object get(String id) {
     HalResourceCacheEntry cacheEntry = cache.get(id);
     if (cacheEntry != null) {
       if (expired(cacheEntry)) {
@@ -89,7 +89,7 @@ public class DefaultHalResourceCache implements Cache {
     }
   }
 
-  public void destroy() {
+  public synchronized void destroy() {
     cache.clear();
   }
 
@@ -74,6 +74,31 @@ public interface HistoricProcessInstanceRestService {
   List<HistoricProcessInstanceDto> queryHistoricProcessInstances(HistoricProcessInstanceQueryDto query, @QueryParam("firstResult") Integer firstResult,
       @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Same as {@link #getHistoricProcessInstances(UriInfo, Integer, Integer)} but writes
+   * the results to the response while fetching them page by page. The results are
+   * sorted by id, which is the key to fetch the next page, so sorting parameters are
+   * rejected.
+   */
+  @GET
+  @Path("/stream")
+  @Produces(MediaType.APPLICATION_JSON)
+  Response streamHistoricProcessInstances(@Context UriInfo uriInfo, @QueryParam("firstResult") Integer firstResult,
+      @QueryParam("maxResults") Integer maxResults);
+
+  /**
+   * Same as {@link #queryHistoricProcessInstances(HistoricProcessInstanceQueryDto, Integer, Integer)} but writes
+   * the results to the response while fetching them page by page. The results are
+   * sorted by id, which is the key to fetch the next page, so sorting parameters are
+   * rejected.
+   */
+  @POST
+  @Path("/stream")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  Response streamQueriedHistoricProcessInstances(HistoricProcessInstanceQueryDto query, @QueryParam("firstResult") Integer firstResult,
+      @QueryParam("maxResults") Integer maxResults);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
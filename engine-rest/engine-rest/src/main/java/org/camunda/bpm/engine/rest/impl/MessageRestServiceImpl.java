@@ -23,6 +23,7 @@ import javax.ws.rs.core.Response.Status;
 import org.camunda.bpm.engine.MismatchingMessageCorrelationException;
 import org.camunda.bpm.engine.RuntimeService;
 import org.camunda.bpm.engine.rest.MessageRestService;
+import org.camunda.bpm.engine.rest.dto.BulkItemResultDto;
 import org.camunda.bpm.engine.rest.dto.VariableValueDto;
 import org.camunda.bpm.engine.rest.dto.message.CorrelationMessageDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
@@ -75,6 +76,23 @@ public class MessageRestServiceImpl extends AbstractRestProcessEngineAware imple
   }
 
 
+  @Override
+  public List<BulkItemResultDto> deliverMessages(List<CorrelationMessageDto> messageDtos) {
+    if (messageDtos == null) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, "No messages supplied");
+    }
+
+    List<BulkItemResultDto> results = new ArrayList<BulkItemResultDto>();
+    for (CorrelationMessageDto messageDto : messageDtos) {
+      try {
+        results.add(BulkItemResultDto.fromResponse(deliverMessage(messageDto)));
+      } catch (Exception e) {
+        results.add(BulkItemResultDto.fromException(e));
+      }
+    }
+    return results;
+  }
+
   protected Response createResponse(List<MessageCorrelationResultDto> resultDtos, CorrelationMessageDto messageDto) {
     Response.ResponseBuilder response = Response.noContent();
     if (messageDto.isResultEnabled()) {
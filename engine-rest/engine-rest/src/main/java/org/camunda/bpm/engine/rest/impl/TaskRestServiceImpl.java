@@ -29,7 +29,9 @@ import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.TaskService;
 import org.camunda.bpm.engine.exception.NotValidException;
 import org.camunda.bpm.engine.rest.TaskRestService;
+import org.camunda.bpm.engine.rest.dto.BulkItemResultDto;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.task.BulkCompleteTaskDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskQueryDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
@@ -167,6 +169,28 @@ public class TaskRestServiceImpl extends AbstractRestProcessEngineAware implemen
 
   }
 
+  @Override
+  public List<BulkItemResultDto> completeTasks(List<BulkCompleteTaskDto> completeTaskDtos) {
+    if (completeTaskDtos == null) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, "No tasks supplied");
+    }
+
+    ProcessEngine engine = getProcessEngine();
+    List<BulkItemResultDto> results = new ArrayList<BulkItemResultDto>();
+    for (BulkCompleteTaskDto completeTaskDto : completeTaskDtos) {
+      try {
+        if (completeTaskDto.getTaskId() == null) {
+          throw new InvalidRequestException(Status.BAD_REQUEST, "No task id supplied");
+        }
+        TaskResource task = new TaskResourceImpl(engine, completeTaskDto.getTaskId(), relativeRootResourcePath, getObjectMapper());
+        results.add(BulkItemResultDto.fromResponse(task.complete(completeTaskDto)));
+      } catch (Exception e) {
+        results.add(BulkItemResultDto.fromException(e));
+      }
+    }
+    return results;
+  }
+
   @Override
   public TaskReportResource getTaskReportResource() {
     return new TaskReportResourceImpl(getProcessEngine());
@@ -36,6 +36,7 @@ import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.history.HistoricProcessInstanceRestService;
 import org.camunda.bpm.engine.rest.sub.history.HistoricProcessInstanceResource;
 import org.camunda.bpm.engine.rest.sub.history.impl.HistoricProcessInstanceResourceImpl;
+import org.camunda.bpm.engine.rest.util.QueryResultStreamingOutput;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
@@ -92,6 +93,46 @@ import java.util.List;
     return historicProcessInstanceDtoResults;
   }
 
+  @Override
+  public Response streamHistoricProcessInstances(UriInfo uriInfo, Integer firstResult, Integer maxResults) {
+    HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
+    return streamQueriedHistoricProcessInstances(queryDto, firstResult, maxResults);
+  }
+
+  @Override
+  public Response streamQueriedHistoricProcessInstances(HistoricProcessInstanceQueryDto queryDto, Integer firstResult, Integer maxResults) {
+    if (queryDto.hasSortingOptions()) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, "Streamed historic process instances are always sorted by id, sorting parameters are not supported");
+    }
+
+    queryDto.setObjectMapper(objectMapper);
+    final HistoricProcessInstanceQuery query = queryDto.toQuery(processEngine);
+    // the id is the key to continue with the next page
+    query.orderByProcessInstanceId();
+    query.asc();
+
+    QueryResultStreamingOutput<HistoricProcessInstance> output =
+        new QueryResultStreamingOutput<HistoricProcessInstance>(objectMapper, firstResult, maxResults) {
+      @Override
+      protected List<HistoricProcessInstance> fetchPage(int firstResult, int maxResults) {
+        return query.listPage(firstResult, maxResults);
+      }
+
+      @Override
+      protected List<HistoricProcessInstance> fetchPageAfter(HistoricProcessInstance lastResult, int maxResults) {
+        query.processInstanceIdAfter(lastResult.getId());
+        return query.listPage(0, maxResults);
+      }
+
+      @Override
+      protected Object toDto(HistoricProcessInstance historicProcessInstance) {
+        return HistoricProcessInstanceDto.fromHistoricProcessInstance(historicProcessInstance);
+      }
+    };
+
+    return Response.ok(output.fetchFirstPage(), MediaType.APPLICATION_JSON_TYPE).build();
+  }
+
   private List<HistoricProcessInstance> executePaginatedQuery(HistoricProcessInstanceQuery query, Integer firstResult, Integer maxResults) {
     if (firstResult == null) {
       firstResult = 0;
@@ -22,6 +22,8 @@ import org.camunda.bpm.engine.rest.GroupRestService;
 import org.camunda.bpm.engine.rest.dto.ResourceOptionsDto;
 import org.camunda.bpm.engine.rest.dto.identity.GroupDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
+import org.camunda.bpm.engine.rest.hal.Hal;
+import org.camunda.bpm.engine.rest.hal.group.HalGroup;
 import org.camunda.bpm.engine.rest.sub.identity.GroupMembersResource;
 import org.camunda.bpm.engine.rest.sub.identity.GroupResource;
 
@@ -93,12 +95,14 @@ public class GroupResourceImpl extends AbstractIdentityResource implements Group
     group.update(dbGroup);
 
     identityService.saveGroup(dbGroup);
+    Hal.getInstance().evictHalRelationCacheEntry(HalGroup.class, resourceId);
   }
 
 
   public void deleteGroup() {
     ensureNotReadOnly();
     identityService.deleteGroup(resourceId);
+    Hal.getInstance().evictHalRelationCacheEntry(HalGroup.class, resourceId);
   }
 
   public GroupMembersResource getGroupMembersResource() {
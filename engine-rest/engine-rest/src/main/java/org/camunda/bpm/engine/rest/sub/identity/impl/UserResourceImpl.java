@@ -24,6 +24,8 @@ import org.camunda.bpm.engine.rest.dto.ResourceOptionsDto;
 import org.camunda.bpm.engine.rest.dto.identity.UserCredentialsDto;
 import org.camunda.bpm.engine.rest.dto.identity.UserProfileDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
+import org.camunda.bpm.engine.rest.hal.Hal;
+import org.camunda.bpm.engine.rest.hal.user.HalUser;
 import org.camunda.bpm.engine.rest.sub.identity.UserResource;
 
 import javax.ws.rs.HttpMethod;
@@ -87,6 +89,7 @@ public class UserResourceImpl extends AbstractIdentityResource implements UserRe
   public void deleteUser() {
     ensureNotReadOnly();
     identityService.deleteUser(resourceId);
+    Hal.getInstance().evictHalRelationCacheEntry(HalUser.class, resourceId);
   }
 
   public void unlockUser() {
@@ -125,6 +128,7 @@ public class UserResourceImpl extends AbstractIdentityResource implements UserRe
     profile.update(dbUser);
 
     identityService.saveUser(dbUser);
+    Hal.getInstance().evictHalRelationCacheEntry(HalUser.class, resourceId);
   }
 
   protected User findUserObject() {
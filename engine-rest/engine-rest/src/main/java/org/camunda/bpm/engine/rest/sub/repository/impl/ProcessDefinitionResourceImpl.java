@@ -52,6 +52,8 @@ import org.camunda.bpm.engine.rest.dto.runtime.modification.ProcessInstanceModif
 import org.camunda.bpm.engine.rest.dto.task.FormDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.exception.RestException;
+import org.camunda.bpm.engine.rest.hal.Hal;
+import org.camunda.bpm.engine.rest.hal.processDefinition.HalProcessDefinition;
 import org.camunda.bpm.engine.rest.sub.repository.ProcessDefinitionResource;
 import org.camunda.bpm.engine.rest.util.ApplicationContextPathUtil;
 import org.camunda.bpm.engine.rest.util.EncodingUtil;
@@ -113,6 +115,7 @@ public class ProcessDefinitionResourceImpl implements ProcessDefinitionResource
     } catch (NotFoundException nfe) {
       throw new InvalidRequestException(Status.NOT_FOUND, nfe, nfe.getMessage());
     }
+    Hal.getInstance().evictHalRelationCacheEntry(HalProcessDefinition.class, processDefinitionId);
     return Response.ok().build();
   }
 
@@ -354,6 +357,7 @@ public class ProcessDefinitionResourceImpl implements ProcessDefinitionResource
       String message = String.format("The suspension state of Process Definition with id %s could not be updated due to: %s", processDefinitionId, e.getMessage());
       throw new InvalidRequestException(Status.BAD_REQUEST, e, message);
     }
+    Hal.getInstance().evictHalRelationCacheEntry(HalProcessDefinition.class, processDefinitionId);
   }
 
   @Override
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.StreamingOutput;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * <p>Writes the results of a query as JSON array to the response while fetching them
+ * page by page, so that only one page of results and DTOs is held in memory at a time.
+ * The next page is fetched only after the previous one has been written, so a slow
+ * client slows down the fetching.</p>
+ *
+ * <p>Only the first page is fetched by offset. Every further page continues after the
+ * key of the last written result (keyset paging), so the database seeks to the page
+ * instead of skipping all previous rows, and rows inserted or deleted concurrently do
+ * not shift the following pages. The query must therefore be ordered by that key.</p>
+ *
+ * <p>The first page should be fetched with {@link #fetchFirstPage()} before the response
+ * is returned, so that an invalid query is reported with an error status. Once results
+ * have been written, the status can no longer change: if fetching a further page fails,
+ * the JSON array is not terminated and the client receives an incomplete document.</p>
+ *
+ * @param <T> the type of the query results
+ */
+public abstract class QueryResultStreamingOutput<T> implements StreamingOutput {
+
+  public static final int DEFAULT_PAGE_SIZE = 500;
+
+  protected ObjectMapper objectMapper;
+  protected int firstResult;
+  protected int maxResults;
+  protected int pageSize = DEFAULT_PAGE_SIZE;
+
+  protected List<T> firstPage;
+
+  public QueryResultStreamingOutput(ObjectMapper objectMapper, Integer firstResult, Integer maxResults) {
+    this.objectMapper = objectMapper;
+    this.firstResult = firstResult != null ? firstResult : 0;
+    this.maxResults = maxResults != null ? maxResults : Integer.MAX_VALUE;
+  }
+
+  /**
+   * Fetches the first page of results unless it has been fetched already.
+   */
+  public QueryResultStreamingOutput<T> fetchFirstPage() {
+    if (firstPage == null) {
+      firstPage = fetchPage(firstResult, Math.min(pageSize, maxResults));
+    }
+    return this;
+  }
+
+  public void write(OutputStream outputStream) throws IOException, WebApplicationException {
+    fetchFirstPage();
+
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+    // the container is responsible for the output stream
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    // a failure must not produce a well-formed but incomplete array
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+    generator.writeStartArray();
+
+    List<T> page = firstPage;
+    int size = Math.min(pageSize, maxResults);
+    int remaining = maxResults;
+    while (true) {
+      for (T result : page) {
+        objectMapper.writeValue(generator, toDto(result));
+      }
+      generator.flush();
+
+      remaining -= page.size();
+      if (page.size() < size || remaining <= 0) {
+        break;
+      }
+
+      size = Math.min(pageSize, remaining);
+      page = fetchPageAfter(page.get(page.size() - 1), size);
+    }
+
+    generator.writeEndArray();
+    generator.close();
+  }
+
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  public void setPageSize(int pageSize) {
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * @return the results of the first page, skipping the given number of results
+   */
+  protected abstract List<T> fetchPage(int firstResult, int maxResults);
+
+  /**
+   * @return the results of the page which follows the given result in key order
+   */
+  protected abstract List<T> fetchPageAfter(T lastResult, int maxResults);
+
+  /**
+   * @return the DTO which is serialized for the given query result
+   */
+  protected abstract Object toDto(T result);
+
+}
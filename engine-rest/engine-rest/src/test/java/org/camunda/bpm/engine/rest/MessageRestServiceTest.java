@@ -21,6 +21,7 @@ import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -510,6 +511,32 @@ public class MessageRestServiceTest extends AbstractRestServiceTest {
 
   }
 
+  @Test
+  public void testBulkCorrelationIsolatesFailures() {
+    MessageCorrelationBuilder failingCorrelationBuilderMock = mock(MessageCorrelationBuilder.class);
+    when(runtimeServiceMock.createMessageCorrelation("aFailingMessage")).thenReturn(failingCorrelationBuilderMock);
+    doThrow(new MismatchingMessageCorrelationException("aFailingMessage", "Expected exception: cannot correlate"))
+      .when(failingCorrelationBuilderMock).correlateWithResult();
+
+    List<Map<String, Object>> messages = new ArrayList<Map<String, Object>>();
+    messages.add(Collections.<String, Object>singletonMap("messageName", "aFailingMessage"));
+    messages.add(Collections.<String, Object>singletonMap("messageName", "aMessage"));
+
+    given().contentType(POST_JSON_CONTENT_TYPE).body(messages)
+      .then().expect().statusCode(Status.OK.getStatusCode()).contentType(ContentType.JSON)
+      .body("size()", equalTo(2))
+      .body("[0].status", equalTo(Status.BAD_REQUEST.getStatusCode()))
+      .body("[0].exception.type", equalTo(RestException.class.getSimpleName()))
+      .body("[0].exception.message", containsString("Expected exception: cannot correlate"))
+      .body("[1].status", equalTo(Status.NO_CONTENT.getStatusCode()))
+      .body("[1].exception", equalTo(null))
+      .when().post(MESSAGE_URL + "/bulk");
+
+    verify(failingCorrelationBuilderMock).correlateWithResult();
+    verify(runtimeServiceMock).createMessageCorrelation(eq("aMessage"));
+    verify(messageCorrelationBuilderMock).correlateWithResult();
+  }
+
   @Test
   public void testMismatchingCorrelation() {
     String messageName = "aMessage";
@@ -1711,6 +1711,33 @@ public class TaskRestServiceInteractionTest extends
       .post(COMPLETE_TASK_URL);
   }
 
+  @Test
+  public void testBulkCompleteTasksIsolatesFailures() {
+    doThrow(new ProcessEngineException("expected exception")).when(taskServiceMock).complete(eq("aFailingTaskId"), Matchers.<Map<String, Object>>any());
+
+    List<Map<String, Object>> tasks = new ArrayList<Map<String, Object>>();
+    tasks.add(Collections.<String, Object>singletonMap("taskId", "aFailingTaskId"));
+    tasks.add(Collections.<String, Object>singletonMap("taskId", EXAMPLE_TASK_ID));
+
+    given()
+      .header("accept", MediaType.APPLICATION_JSON)
+      .contentType(POST_JSON_CONTENT_TYPE).body(tasks)
+    .then().expect()
+      .statusCode(Status.OK.getStatusCode())
+      .contentType(ContentType.JSON)
+      .body("size()", equalTo(2))
+      .body("[0].status", equalTo(Status.INTERNAL_SERVER_ERROR.getStatusCode()))
+      .body("[0].exception.type", equalTo(RestException.class.getSimpleName()))
+      .body("[0].exception.message", equalTo("Cannot complete task aFailingTaskId: expected exception"))
+      .body("[1].status", equalTo(Status.NO_CONTENT.getStatusCode()))
+      .body("[1].exception", equalTo(null))
+    .when()
+      .post(TASK_SERVICE_URL + "/complete");
+
+    verify(taskServiceMock).complete("aFailingTaskId", null);
+    verify(taskServiceMock).complete(EXAMPLE_TASK_ID, null);
+  }
+
   @Test
   public void testResolveTask() {
     Map<String, Object> variables = VariablesBuilder.create()
@@ -499,6 +499,7 @@ public class HistoricActivityInstanceRestServiceQueryTest extends AbstractRestSe
     Map<String, String> parameters = new HashMap<String, String>();
 
     parameters.put("activityInstanceId", MockProvider.EXAMPLE_HISTORIC_ACTIVITY_INSTANCE_ID);
+    parameters.put("activityInstanceIdAfter", "anActivityInstanceIdAfter");
     parameters.put("processInstanceId", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID);
     parameters.put("processDefinitionId", MockProvider.EXAMPLE_PROCESS_DEFINITION_ID);
     parameters.put("executionId", MockProvider.EXAMPLE_EXECUTION_ID);
@@ -523,6 +524,7 @@ public class HistoricActivityInstanceRestServiceQueryTest extends AbstractRestSe
     Map<String, String> stringQueryParameters = getCompleteStringQueryParameters();
 
     verify(mockedQuery).activityInstanceId(stringQueryParameters.get("activityInstanceId"));
+    verify(mockedQuery).activityInstanceIdAfter(stringQueryParameters.get("activityInstanceIdAfter"));
     verify(mockedQuery).processInstanceId(stringQueryParameters.get("processInstanceId"));
     verify(mockedQuery).processDefinitionId(stringQueryParameters.get("processDefinitionId"));
     verify(mockedQuery).executionId(stringQueryParameters.get("executionId"));
@@ -38,6 +38,7 @@ import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.helper.MockProvider;
 import org.camunda.bpm.engine.rest.helper.variable.EqualsPrimitiveValue;
 import org.camunda.bpm.engine.rest.util.OrderingBuilder;
+import org.camunda.bpm.engine.rest.util.QueryResultStreamingOutput;
 import org.camunda.bpm.engine.rest.util.container.TestContainerRule;
 import org.junit.Assert;
 import org.junit.Before;
@@ -51,11 +52,15 @@ import static io.restassured.path.json.JsonPath.from;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -75,6 +80,7 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
 
   protected static final String HISTORIC_PROCESS_INSTANCE_RESOURCE_URL = TEST_RESOURCE_ROOT_PATH + "/history/process-instance";
   protected static final String HISTORIC_PROCESS_INSTANCE_COUNT_RESOURCE_URL = HISTORIC_PROCESS_INSTANCE_RESOURCE_URL + "/count";
+  protected static final String HISTORIC_PROCESS_INSTANCE_STREAM_RESOURCE_URL = HISTORIC_PROCESS_INSTANCE_RESOURCE_URL + "/stream";
 
   protected HistoricProcessInstanceQuery mockedQuery;
 
@@ -330,6 +336,98 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
     verify(mockedQuery).listPage(firstResult, maxResults);
   }
 
+  @Test
+  public void testStreamHistoricProcessInstances() {
+    when(mockedQuery.listPage(0, QueryResultStreamingOutput.DEFAULT_PAGE_SIZE))
+      .thenReturn(MockProvider.createMockHistoricProcessInstances());
+
+    Response response = given()
+      .queryParam("processInstanceId", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .contentType(ContentType.JSON)
+      .when()
+        .get(HISTORIC_PROCESS_INSTANCE_STREAM_RESOURCE_URL);
+
+    String content = response.asString();
+    List<String> instances = from(content).getList("");
+    Assert.assertEquals(1, instances.size());
+    Assert.assertEquals(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, from(content).getString("[0].id"));
+
+    InOrder inOrder = inOrder(mockedQuery);
+    inOrder.verify(mockedQuery).processInstanceId(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID);
+    inOrder.verify(mockedQuery).orderByProcessInstanceId();
+    inOrder.verify(mockedQuery).asc();
+    inOrder.verify(mockedQuery).listPage(0, QueryResultStreamingOutput.DEFAULT_PAGE_SIZE);
+    // the first page is not full, so no further page is fetched
+    verify(mockedQuery, never()).processInstanceIdAfter(anyString());
+    verify(mockedQuery, times(1)).listPage(anyInt(), anyInt());
+    verify(mockedQuery, never()).list();
+  }
+
+  @Test
+  public void testStreamHistoricProcessInstancesContinuesAfterLastId() {
+    int pageSize = QueryResultStreamingOutput.DEFAULT_PAGE_SIZE;
+    List<HistoricProcessInstance> firstPage = Collections.nCopies(pageSize, MockProvider.createMockHistoricProcessInstance());
+    when(mockedQuery.listPage(0, pageSize))
+      .thenReturn(firstPage)
+      .thenReturn(MockProvider.createMockHistoricProcessInstances());
+
+    Response response = given()
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+      .when()
+        .get(HISTORIC_PROCESS_INSTANCE_STREAM_RESOURCE_URL);
+
+    Assert.assertEquals(pageSize + 1, from(response.asString()).getList("").size());
+
+    // the second page is fetched by the id of the last result instead of an offset
+    InOrder inOrder = inOrder(mockedQuery);
+    inOrder.verify(mockedQuery).listPage(0, pageSize);
+    inOrder.verify(mockedQuery).processInstanceIdAfter(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID);
+    inOrder.verify(mockedQuery).listPage(0, pageSize);
+    verify(mockedQuery, never()).listPage(pageSize, pageSize);
+  }
+
+  @Test
+  public void testStreamHistoricProcessInstancesWithSorting() {
+    given()
+      .queryParam("sortBy", "instanceId")
+      .queryParam("sortOrder", "desc")
+    .then()
+      .expect()
+        .statusCode(Status.BAD_REQUEST.getStatusCode())
+        .contentType(ContentType.JSON)
+        .body("type", equalTo(InvalidRequestException.class.getSimpleName()))
+      .when()
+        .get(HISTORIC_PROCESS_INSTANCE_STREAM_RESOURCE_URL);
+
+    verify(mockedQuery, never()).listPage(anyInt(), anyInt());
+  }
+
+  @Test
+  public void testStreamHistoricProcessInstancesWithPagination() {
+    List<HistoricProcessInstance> page = MockProvider.createMockHistoricProcessInstances();
+    when(mockedQuery.listPage(5, 1)).thenReturn(page);
+
+    Response response = given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(new HashMap<String, Object>())
+      .queryParam("firstResult", 5)
+      .queryParam("maxResults", 1)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+      .when()
+        .post(HISTORIC_PROCESS_INSTANCE_STREAM_RESOURCE_URL);
+
+    Assert.assertEquals(1, from(response.asString()).getList("").size());
+    verify(mockedQuery).listPage(5, 1);
+    verify(mockedQuery, never()).list();
+  }
+
   @Test
   public void testMissingFirstResultParameter() {
     int maxResults = 10;
@@ -482,6 +580,7 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
     Map<String, String> parameters = new HashMap<String, String>();
 
     parameters.put("processInstanceId", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID);
+    parameters.put("processInstanceIdAfter", "aProcessInstanceIdAfter");
     parameters.put("processInstanceBusinessKey", MockProvider.EXAMPLE_PROCESS_INSTANCE_BUSINESS_KEY);
     parameters.put("processInstanceBusinessKeyLike", MockProvider.EXAMPLE_PROCESS_INSTANCE_BUSINESS_KEY_LIKE);
     parameters.put("processDefinitionId", MockProvider.EXAMPLE_PROCESS_DEFINITION_ID);
@@ -504,6 +603,7 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
     Map<String, String> stringQueryParameters = getCompleteStringQueryParameters();
 
     verify(mockedQuery).processInstanceId(stringQueryParameters.get("processInstanceId"));
+    verify(mockedQuery).processInstanceIdAfter(stringQueryParameters.get("processInstanceIdAfter"));
     verify(mockedQuery).processInstanceBusinessKey(stringQueryParameters.get("processInstanceBusinessKey"));
     verify(mockedQuery).processInstanceBusinessKeyLike(stringQueryParameters.get("processInstanceBusinessKeyLike"));
     verify(mockedQuery).processDefinitionId(stringQueryParameters.get("processDefinitionId"));
@@ -248,6 +248,45 @@ public class HalResourceCacheTest extends AbstractRestServiceTest {
     assertEquals("fritz", halUser.getFirstName());
   }
 
+  @Test
+  public void testEntityEviction() {
+    String[] userIds = new String[]{"test"};
+    // mock user and query
+    User user = mock(User.class);
+    when(user.getId()).thenReturn(userIds[0]);
+    when(user.getFirstName()).thenReturn("kermit");
+    UserQuery userQuery = mock(UserQuery.class);
+    when(userQuery.userIdIn(Matchers.<String[]>anyVararg())).thenReturn(userQuery);
+    when(userQuery.listPage(anyInt(), anyInt())).thenReturn(Arrays.asList(user));
+    when(processEngine.getIdentityService().createUserQuery()).thenReturn(userQuery);
+
+    // configure cache
+    HalRelationCacheConfiguration configuration = new HalRelationCacheConfiguration();
+    configuration.setCacheImplementationClass(DefaultHalResourceCache.class);
+    Map<String, Object> halUserConfig = new HashMap<String, Object>();
+    halUserConfig.put("capacity", 100);
+    halUserConfig.put("secondsToLive", 10000);
+    configuration.addCacheConfiguration(HalUser.class, halUserConfig);
+
+    contextListener.configureCaches(configuration);
+    DefaultHalResourceCache cache = (DefaultHalResourceCache) Hal.getInstance().getHalRelationCache(HalUser.class);
+
+    // resolve user into the cache
+    HalLinkResolver linkResolver = Hal.getInstance().getLinkResolver(UserRestService.class);
+    linkResolver.resolveLinks(userIds, processEngine);
+    assertEquals(1, cache.size());
+
+    // change user mock and evict the cached user
+    when(user.getFirstName()).thenReturn("fritz");
+    Hal.getInstance().evictHalRelationCacheEntry(HalUser.class, userIds[0]);
+    assertEquals(0, cache.size());
+
+    // changed user is resolved without waiting for expiration
+    List<HalResource<?>> halUsers = linkResolver.resolveLinks(userIds, processEngine);
+    assertEquals(1, halUsers.size());
+    assertEquals("fritz", ((HalUser) halUsers.get(0)).getFirstName());
+  }
+
   @Test
   public void testIdentityLinkCaching() {
     String[] taskIds = new String[]{"test"};
@@ -207,6 +207,14 @@ public abstract class ProcessEngineConfiguration {
   protected boolean jobExecutorAcquireByDueDate = false;
   protected boolean jobExecutorAcquireByPriority = false;
 
+  /**
+   * If true, the job executor acquires all acquirable exclusive jobs of a process instance
+   * together with the first of them, instead of only the ones contained in the acquired page.
+   * The jobs are executed one after another by the same thread, so that they neither compete
+   * with each other on different threads or nodes nor wait for the next acquisition cycle.
+   */
+  protected boolean jobExecutorAcquireExclusiveJobsByProcessInstance = false;
+
   protected boolean ensureJobDueDateNotNull = false;
   protected boolean producePrioritizedJobs = true;
   protected boolean producePrioritizedExternalTasks = true;
@@ -701,6 +709,15 @@ public abstract class ProcessEngineConfiguration {
     return this;
   }
 
+  public boolean isJobExecutorAcquireExclusiveJobsByProcessInstance() {
+    return jobExecutorAcquireExclusiveJobsByProcessInstance;
+  }
+
+  public ProcessEngineConfiguration setJobExecutorAcquireExclusiveJobsByProcessInstance(boolean jobExecutorAcquireExclusiveJobsByProcessInstance) {
+    this.jobExecutorAcquireExclusiveJobsByProcessInstance = jobExecutorAcquireExclusiveJobsByProcessInstance;
+    return this;
+  }
+
   public boolean isJobExecutorPreferTimerJobs() {
     return jobExecutorPreferTimerJobs;
   }
@@ -39,6 +39,7 @@ import org.camunda.bpm.engine.runtime.ExecutionQuery;
 import org.camunda.bpm.engine.runtime.Incident;
 import org.camunda.bpm.engine.runtime.IncidentQuery;
 import org.camunda.bpm.engine.runtime.MessageCorrelationBuilder;
+import org.camunda.bpm.engine.runtime.MessageCorrelationResult;
 import org.camunda.bpm.engine.runtime.ModificationBuilder;
 import org.camunda.bpm.engine.runtime.NativeExecutionQuery;
 import org.camunda.bpm.engine.runtime.NativeProcessInstanceQuery;
@@ -1795,6 +1796,25 @@ public interface RuntimeService {
    */
   MessageCorrelationBuilder createMessageCorrelation(String messageName);
 
+  /**
+   * Correlates all given messages in a single transaction. Each message is correlated
+   * like {@link MessageCorrelationBuilder#correlateWithResult()}, i.e. it has to match
+   * exactly one execution or process definition. The messages have to correlate to
+   * distinct executions. If one of the messages cannot be correlated, none of them is.
+   *
+   * @param messageCorrelations the correlations created by {@link #createMessageCorrelation(String)}
+   *
+   * @return the correlation results in the order of the given correlations
+   *
+   * @throws MismatchingMessageCorrelationException
+   *          if one of the messages cannot be correlated to exactly one entity or
+   *          if two messages correlate to the same execution
+   * @throws AuthorizationException
+   *          if the user is not authorized to trigger one of the correlations, see
+   *          {@link MessageCorrelationBuilder#correlateWithResult()}
+   */
+  List<MessageCorrelationResult> correlateMessages(List<MessageCorrelationBuilder> messageCorrelations);
+
   /**
    * Correlates a message to either an execution that is waiting for this message or a process definition
    * that can be started by this message.
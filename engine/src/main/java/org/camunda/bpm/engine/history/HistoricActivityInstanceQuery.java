@@ -30,6 +30,14 @@ public interface HistoricActivityInstanceQuery extends Query<HistoricActivityIns
   /** Only select historic activity instances with the given id (primary key within history tables). */
   HistoricActivityInstanceQuery activityInstanceId(String activityInstanceId);
 
+  /**
+   * Only select historic activity instances whose id is greater than the given id.
+   * In combination with {@link #orderByHistoricActivityInstanceId()} in ascending order,
+   * pass the id of the last result of a page to fetch the next page without making the
+   * database skip the rows of the previous pages.
+   */
+  HistoricActivityInstanceQuery activityInstanceIdAfter(String activityInstanceId);
+
   /** Only select historic activity instances with the given process instance.
    * {@link ProcessInstance) ids and {@link HistoricProcessInstance} ids match. */
   HistoricActivityInstanceQuery processInstanceId(String processInstanceId);
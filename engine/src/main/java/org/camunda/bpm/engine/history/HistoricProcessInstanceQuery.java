@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Set;
 import org.camunda.bpm.engine.ProcessEngineConfiguration;
 import org.camunda.bpm.engine.query.Query;
+import org.camunda.bpm.engine.query.QueryResultHandler;
 import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
 
 /**
@@ -40,6 +41,15 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
    * {@link ProcessInstance) ids and {@link HistoricProcessInstance} ids match. */
   HistoricProcessInstanceQuery processInstanceIds(Set<String> processInstanceIds);
 
+  /**
+   * Only select historic process instances whose id is greater than the given id.
+   * In combination with {@link #orderByProcessInstanceId()} in ascending order, pass the
+   * id of the last result of a page to fetch the next page. In contrast to
+   * {@link #listPage(int, int)}, the database does not have to skip the rows of the
+   * previous pages, so fetching a page takes the same time regardless of its position.
+   */
+  HistoricProcessInstanceQuery processInstanceIdAfter(String processInstanceId);
+
   /** Only select historic process instances for the given process definition */
   HistoricProcessInstanceQuery processDefinitionId(String processDefinitionId);
 
@@ -330,4 +340,11 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
 
   /** Only select historic process instances that are internallyTerminated. */
   HistoricProcessInstanceQuery internallyTerminated();
+
+  /**
+   * Executes the query and passes the results one by one to the handler while
+   * they are read from the database, instead of collecting them in a list.
+   * Use it to iterate over a large number of historic process instances.
+   */
+  void forEach(QueryResultHandler<HistoricProcessInstance> resultHandler);
 }
@@ -38,6 +38,7 @@ import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.query.Query;
 import org.camunda.bpm.engine.query.QueryProperty;
+import org.camunda.bpm.engine.query.QueryResultHandler;
 import org.joda.time.DateTime;
 
 
@@ -54,12 +55,14 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
   public static final String SORTORDER_DESC = "desc";
 
   protected enum ResultType {
-    LIST, LIST_PAGE, LIST_IDS, SINGLE_RESULT, COUNT
+    LIST, LIST_PAGE, LIST_IDS, SINGLE_RESULT, COUNT, FOR_EACH
   }
   protected transient CommandExecutor commandExecutor;
 
   protected ResultType resultType;
 
+  protected transient QueryResultHandler<U> resultHandler;
+
   protected Map<String, String> expressions = new HashMap<String, String>();
 
   protected Set<Validator<AbstractQuery<?, ?>>> validators = new HashSet<Validator<AbstractQuery<?, ?>>>();
@@ -171,6 +174,9 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
       return evaluateExpressionsAndExecuteList(commandContext, null);
     } else if (resultType == ResultType.LIST_IDS) {
       return evaluateExpressionsAndExecuteIdsList(commandContext);
+    } else if (resultType == ResultType.FOR_EACH) {
+      evaluateExpressionsAndExecuteForEach(commandContext, resultHandler);
+      return null;
     } else {
       return evaluateExpressionsAndExecuteCount(commandContext);
     }
@@ -338,4 +344,36 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Executes the query and passes the results one by one to the handler.
+   */
+  public void forEach(QueryResultHandler<U> resultHandler) {
+    ensureNotNull("resultHandler", resultHandler);
+    this.resultHandler = resultHandler;
+    this.resultType = ResultType.FOR_EACH;
+    if (commandExecutor != null) {
+      commandExecutor.execute(this);
+    } else {
+      evaluateExpressionsAndExecuteForEach(Context.getCommandContext(), resultHandler);
+    }
+  }
+
+  public void evaluateExpressionsAndExecuteForEach(CommandContext commandContext, QueryResultHandler<U> resultHandler) {
+    validate();
+    evaluateExpressions();
+    if (!hasExcludingConditions()) {
+      executeForEach(commandContext, resultHandler);
+    }
+  }
+
+  /**
+   * Passes the results to the handler. Queries which can read their results one by one
+   * override this method, by default the results are collected in a list first.
+   */
+  public void executeForEach(CommandContext commandContext, QueryResultHandler<U> resultHandler) {
+    for (U result : executeList(commandContext, null)) {
+      resultHandler.handleResult(result);
+    }
+  }
+
 }
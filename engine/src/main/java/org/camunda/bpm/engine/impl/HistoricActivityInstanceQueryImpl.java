@@ -36,6 +36,7 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
 
   private static final long serialVersionUID = 1L;
   protected String activityInstanceId;
+  protected String activityInstanceIdAfter;
   protected String processInstanceId;
   protected String executionId;
   protected String processDefinitionId;
@@ -236,6 +237,12 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
     return this;
   }
 
+  public HistoricActivityInstanceQueryImpl activityInstanceIdAfter(String activityInstanceId) {
+    ensureNotNull("activityInstanceIdAfter", activityInstanceId);
+    this.activityInstanceIdAfter = activityInstanceId;
+    return this;
+  }
+
   // getters and setters //////////////////////////////////////////////////////
 
   public String getProcessInstanceId() {
@@ -268,6 +275,9 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
   public String getActivityInstanceId() {
     return activityInstanceId;
   }
+  public String getActivityInstanceIdAfter() {
+    return activityInstanceIdAfter;
+  }
   public Date getStartedAfter() {
     return startedAfter;
   }
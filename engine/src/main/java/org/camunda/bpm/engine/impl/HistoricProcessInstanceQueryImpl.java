@@ -28,6 +28,7 @@ import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.util.CompareUtil;
+import org.camunda.bpm.engine.query.QueryResultHandler;
 
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotContainsEmptyString;
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotContainsNull;
@@ -43,6 +44,7 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
 
   private static final long serialVersionUID = 1L;
   protected String processInstanceId;
+  protected String processInstanceIdAfter;
   protected String processDefinitionId;
   protected String processDefinitionName;
   protected String processDefinitionNameLike;
@@ -93,6 +95,12 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     return this;
   }
 
+  public HistoricProcessInstanceQuery processInstanceIdAfter(String processInstanceId) {
+    ensureNotNull("processInstanceIdAfter", processInstanceId);
+    this.processInstanceIdAfter = processInstanceId;
+    return this;
+  }
+
   public HistoricProcessInstanceQuery processInstanceIds(Set<String> processInstanceIds) {
     ensureNotEmpty("Set of process instance ids", processInstanceIds);
     this.processInstanceIds = processInstanceIds;
@@ -331,6 +339,15 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
       .findHistoricProcessInstancesByQueryCriteria(this, page);
   }
 
+  @Override
+  public void executeForEach(CommandContext commandContext, QueryResultHandler<HistoricProcessInstance> resultHandler) {
+    checkQueryOk();
+    ensureVariablesInitialized();
+    commandContext
+      .getHistoricProcessInstanceManager()
+      .findHistoricProcessInstancesByQueryCriteria(this, resultHandler);
+  }
+
   public List<String> executeIdsList(CommandContext commandContext) {
     checkQueryOk();
     ensureVariablesInitialized();
@@ -375,6 +392,10 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     return processInstanceId;
   }
 
+  public String getProcessInstanceIdAfter() {
+    return processInstanceIdAfter;
+  }
+
   public Set<String> getProcessInstanceIds() {
     return processInstanceIds;
   }
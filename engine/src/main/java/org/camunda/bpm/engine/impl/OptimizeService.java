@@ -44,6 +44,27 @@ public class OptimizeService extends ServiceImpl {
     );
   }
 
+  /**
+   * Like {@link #getCompletedHistoricActivityInstances(Date, Date, int)} but continues after the
+   * instance with the given id among the instances finished at <code>finishedAfter</code>.
+   * Pass the end time and id of the last result to fetch the next page without repeating
+   * instances that finished at the same time.
+   *
+   * <p>The cursor only covers instances that were committed when a page was read. An instance
+   * that commits later with an end time at or before the cursor is not returned by later
+   * pages. Callers that must not miss such instances should not advance the cursor past
+   * the current time minus the longest transaction duration, or should re-read such an
+   * overlap window and drop duplicates by id.
+   */
+  public List<HistoricActivityInstance> getCompletedHistoricActivityInstances(Date finishedAfter,
+                                                                              String finishedAfterId,
+                                                                              Date finishedAt,
+                                                                              int maxResults) {
+    return commandExecutor.execute(
+      new OptimizeCompletedHistoricActivityInstanceQueryCmd(finishedAfter, finishedAfterId, finishedAt, maxResults)
+    );
+  }
+
   public List<HistoricActivityInstance> getRunningHistoricActivityInstances(Date startedAfter,
                                                                             Date startedAt,
                                                                             int maxResults) {
@@ -84,6 +105,27 @@ public class OptimizeService extends ServiceImpl {
     );
   }
 
+  /**
+   * Like {@link #getCompletedHistoricProcessInstances(Date, Date, int)} but continues after the
+   * instance with the given id among the instances finished at <code>finishedAfter</code>.
+   * Pass the end time and id of the last result to fetch the next page without repeating
+   * instances that finished at the same time.
+   *
+   * <p>The cursor only covers instances that were committed when a page was read. An instance
+   * that commits later with an end time at or before the cursor is not returned by later
+   * pages. Callers that must not miss such instances should not advance the cursor past
+   * the current time minus the longest transaction duration, or should re-read such an
+   * overlap window and drop duplicates by id.
+   */
+  public List<HistoricProcessInstance> getCompletedHistoricProcessInstances(Date finishedAfter,
+                                                                            String finishedAfterId,
+                                                                            Date finishedAt,
+                                                                            int maxResults) {
+    return commandExecutor.execute(
+      new OptimizeCompletedHistoricProcessInstanceQueryCmd(finishedAfter, finishedAfterId, finishedAt, maxResults)
+    );
+  }
+
   public List<HistoricProcessInstance> getRunningHistoricProcessInstances(Date startedAfter,
                                                                           Date startedAt,
                                                                           int maxResults) {
@@ -79,6 +79,14 @@ public class ProcessDefinitionStatisticsQueryImpl extends AbstractQuery<ProcessD
     return includeIncidents || includeRootIncidents || includeIncidentsForType != null;
   }
 
+  public boolean isRootIncidentsToInclude() {
+    return includeRootIncidents;
+  }
+
+  public String getIncludeIncidentsForType() {
+    return includeIncidentsForType;
+  }
+
   protected void checkQueryOk() {
     super.checkQueryOk();
     if (includeIncidents && includeIncidentsForType != null) {
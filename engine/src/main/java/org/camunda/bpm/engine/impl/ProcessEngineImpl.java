@@ -15,13 +15,17 @@
  */
 package org.camunda.bpm.engine.impl;
 
+import java.util.List;
 import java.util.Map;
 
 import org.camunda.bpm.engine.*;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineCloseListener;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.cfg.TransactionContextFactory;
 import org.camunda.bpm.engine.impl.el.ExpressionManager;
 import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.impl.history.analytics.InitializeProcessInstanceDurationStoreCmd;
+import org.camunda.bpm.engine.impl.history.analytics.ProcessInstanceDurationStore;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
@@ -91,6 +95,10 @@ public class ProcessEngineImpl implements ProcessEngine {
 
     executeSchemaOperations();
 
+    if (processEngineConfiguration.getProcessInstanceDurationStore() != null) {
+      initializeProcessInstanceDurationStore(processEngineConfiguration.getProcessInstanceDurationStore());
+    }
+
     if (name == null) {
       LOG.processEngineCreated(ProcessEngines.NAME_DEFAULT);
     } else {
@@ -115,6 +123,13 @@ public class ProcessEngineImpl implements ProcessEngine {
     }
   }
 
+  protected void initializeProcessInstanceDurationStore(ProcessInstanceDurationStore store) {
+    String processInstanceIdAfter = null;
+    do {
+      processInstanceIdAfter = commandExecutor.execute(new InitializeProcessInstanceDurationStoreCmd(store, processInstanceIdAfter));
+    } while (processInstanceIdAfter != null);
+  }
+
   protected void executeSchemaOperations() {
     commandExecutorSchemaOperations.execute(processEngineConfiguration.getSchemaOperationsCommand());
     commandExecutorSchemaOperations.execute(processEngineConfiguration.getHistoryLevelCommand());
@@ -140,6 +155,13 @@ public class ProcessEngineImpl implements ProcessEngine {
       jobExecutor.unregisterProcessEngine(this);
     }
 
+    List<ProcessEngineCloseListener> closeListeners = processEngineConfiguration.getProcessEngineCloseListeners();
+    if (closeListeners != null) {
+      for (ProcessEngineCloseListener closeListener : closeListeners) {
+        closeListener.onClose(this);
+      }
+    }
+
     commandExecutorSchemaOperations.execute(new SchemaOperationProcessEngineClose());
 
     processEngineConfiguration.close();
@@ -28,6 +28,7 @@ import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.RuntimeService;
 import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.form.FormData;
+import org.camunda.bpm.engine.impl.cmd.CorrelateMessagesCmd;
 import org.camunda.bpm.engine.impl.cmd.CreateIncidentCmd;
 import org.camunda.bpm.engine.impl.cmd.DeleteProcessInstanceCmd;
 import org.camunda.bpm.engine.impl.cmd.DeleteProcessInstancesCmd;
@@ -58,6 +59,7 @@ import org.camunda.bpm.engine.runtime.ExecutionQuery;
 import org.camunda.bpm.engine.runtime.Incident;
 import org.camunda.bpm.engine.runtime.IncidentQuery;
 import org.camunda.bpm.engine.runtime.MessageCorrelationBuilder;
+import org.camunda.bpm.engine.runtime.MessageCorrelationResult;
 import org.camunda.bpm.engine.runtime.ModificationBuilder;
 import org.camunda.bpm.engine.runtime.NativeExecutionQuery;
 import org.camunda.bpm.engine.runtime.NativeProcessInstanceQuery;
@@ -604,6 +606,21 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
     return new MessageCorrelationBuilderImpl(commandExecutor, messageName);
   }
 
+  @Override
+  public List<MessageCorrelationResult> correlateMessages(List<MessageCorrelationBuilder> messageCorrelations) {
+    ensureNotNull("messageCorrelations", messageCorrelations);
+
+    List<MessageCorrelationBuilderImpl> builders = new ArrayList<MessageCorrelationBuilderImpl>(messageCorrelations.size());
+    for (MessageCorrelationBuilder messageCorrelation : messageCorrelations) {
+      MessageCorrelationBuilderImpl builder = (MessageCorrelationBuilderImpl) messageCorrelation;
+      builder.ensureProcessDefinitionIdNotSet();
+      builder.ensureProcessInstanceAndTenantIdNotSet();
+      builders.add(builder);
+    }
+
+    return commandExecutor.execute(new CorrelateMessagesCmd(builders));
+  }
+
   @Override
   public void correlateMessage(String messageName, Map<String, Object> correlationKeys, Map<String, Object> processVariables) {
     createMessageCorrelation(messageName)
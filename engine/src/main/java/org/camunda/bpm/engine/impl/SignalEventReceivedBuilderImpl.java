@@ -19,8 +19,10 @@ import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
 import java.util.Map;
 
+import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.impl.cmd.CommandLogger;
 import org.camunda.bpm.engine.impl.cmd.SignalEventReceivedCmd;
+import org.camunda.bpm.engine.impl.cmd.batch.SignalEventReceivedBatchCmd;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.runtime.SignalEventReceivedBuilder;
 import org.camunda.bpm.engine.variable.VariableMap;
@@ -93,6 +95,18 @@ public class SignalEventReceivedBuilderImpl implements SignalEventReceivedBuilde
     commandExecutor.execute(command);
   }
 
+  @Override
+  public Batch sendAsync() {
+    if (executionId != null) {
+      throw LOG.exceptionDeliverSignalAsyncToSingleExecution();
+    }
+    if (variables != null) {
+      throw LOG.exceptionDeliverSignalAsyncWithVariables();
+    }
+
+    return commandExecutor.execute(new SignalEventReceivedBatchCmd(this));
+  }
+
   public String getSignalName() {
     return signalName;
   }
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -31,8 +32,11 @@ import org.camunda.bpm.engine.identity.Group;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.SuspensionState;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceManager;
+import org.camunda.bpm.engine.impl.task.TaskDefinition;
 import org.camunda.bpm.engine.impl.util.CompareUtil;
 import org.camunda.bpm.engine.impl.variable.serializer.VariableSerializers;
 import org.camunda.bpm.engine.task.DelegationState;
@@ -49,6 +53,7 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
 
   private static final long serialVersionUID = 1L;
   protected String taskId;
+  protected String taskIdAfter;
   protected String name;
   protected String nameNotEqual;
   protected String nameLike;
@@ -138,6 +143,16 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
     return this;
   }
 
+  @Override
+  public TaskQueryImpl taskIdAfter(String taskId) {
+    if (isOrQueryActive) {
+      throw new ProcessEngineException("Invalid query usage: cannot set taskIdAfter() within 'or' query");
+    }
+    ensureNotNull("taskIdAfter", taskId);
+    this.taskIdAfter = taskId;
+    return this;
+  }
+
   @Override
   public TaskQueryImpl taskName(String name) {
     this.name = name;
@@ -1338,6 +1353,8 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
       .findTasksByQueryCriteria(this);
 
     if (initializeFormKeys) {
+      initializeVariablesForFormKeyExpressions(commandContext, taskList);
+
       for (Task task : taskList) {
         // initialize the form keys of the tasks
         ((TaskEntity) task).initializeFormKey();
@@ -1347,6 +1364,36 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
     return taskList;
   }
 
+  /**
+   * Fetches the variables which can be referenced by form key expressions
+   * with one query per scope level instead of one query per task.
+   */
+  protected void initializeVariablesForFormKeyExpressions(CommandContext commandContext, List<Task> taskList) {
+    List<TaskEntity> tasks = new ArrayList<TaskEntity>();
+    Set<ExecutionEntity> executions = new LinkedHashSet<ExecutionEntity>();
+
+    for (Task task : taskList) {
+      TaskEntity taskEntity = (TaskEntity) task;
+      TaskDefinition taskDefinition = taskEntity.getTaskDefinition();
+
+      if (taskDefinition != null && taskDefinition.getFormKey() != null && !taskDefinition.getFormKey().isLiteralText()) {
+        tasks.add(taskEntity);
+
+        ExecutionEntity execution = taskEntity.getExecution();
+        while (execution != null) {
+          executions.add(execution);
+          execution = execution.getParent();
+        }
+      }
+    }
+
+    if (tasks.size() > 1) {
+      VariableInstanceManager variableInstanceManager = commandContext.getVariableInstanceManager();
+      variableInstanceManager.initializeTaskVariables(tasks);
+      variableInstanceManager.initializeExecutionVariables(executions);
+    }
+  }
+
   @Override
   public long executeCount(CommandContext commandContext) {
     ensureOrExpressionsEvaluated();
@@ -1478,6 +1525,10 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
     return taskId;
   }
 
+  public String getTaskIdAfter() {
+    return taskIdAfter;
+  }
+
   public String getDescription() {
     return description;
   }
@@ -15,6 +15,8 @@
  */
 package org.camunda.bpm.engine.impl.batch;
 
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensurePositive;
+
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.jobexecutor.JobDeclaration;
@@ -48,17 +50,20 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
 
     int batchJobsPerSeed = batch.getBatchJobsPerSeed();
     int invocationsPerBatchJob = batch.getInvocationsPerBatchJob();
+    // a non-positive job size would never advance the cursor below
+    ensurePositive("batchJobsPerSeed", (long) batchJobsPerSeed);
+    ensurePositive("invocationsPerBatchJob", (long) invocationsPerBatchJob);
 
     List<String> ids = configuration.getIds();
     int numberOfItemsToProcess = Math.min(invocationsPerBatchJob * batchJobsPerSeed, ids.size());
-    // view of process instances to process
-    List<String> processIds = ids.subList(0, numberOfItemsToProcess);
 
     int createdJobs = 0;
-    while (!processIds.isEmpty()) {
-      int lastIdIndex = Math.min(invocationsPerBatchJob, processIds.size());
+    // move a cursor over the ids instead of removing the ids of every job
+    // from the head of the list, which would shift all remaining ids per job
+    for (int cursor = 0; cursor < numberOfItemsToProcess; cursor += invocationsPerBatchJob) {
+      int lastIdIndex = Math.min(cursor + invocationsPerBatchJob, numberOfItemsToProcess);
       // view of process instances for this job
-      List<String> idsForJob = processIds.subList(0, lastIdIndex);
+      List<String> idsForJob = ids.subList(cursor, lastIdIndex);
 
       T jobConfiguration = createJobConfiguration(configuration, idsForJob);
       ByteArrayEntity configurationEntity = saveConfiguration(byteArrayManager, jobConfiguration);
@@ -67,10 +72,14 @@ public abstract class AbstractBatchJobHandler<T extends BatchConfiguration> impl
       postProcessJob(configuration, job);
       jobManager.insertAndHintJobExecutor(job);
 
-      idsForJob.clear();
       createdJobs++;
     }
 
+    if (numberOfItemsToProcess > 0) {
+      // remove all ids processed by this seed job at once
+      ids.subList(0, numberOfItemsToProcess).clear();
+    }
+
     // update created jobs for batch
     batch.setJobsCreated(batch.getJobsCreated() + createdJobs);
 
@@ -243,6 +243,7 @@ public class BatchEntity implements Batch, DbEntity, HasDbReferences, Nameable,
   @Override
   public Object getPersistentState() {
     HashMap<String, Object> persistentState = new HashMap<String, Object>();
+    persistentState.put("totalJobs", totalJobs);
     persistentState.put("jobsCreated", jobsCreated);
     return persistentState;
   }
@@ -100,9 +100,9 @@ public class RestartProcessInstancesBatchCmd extends AbstractRestartProcessInsta
 
     BatchEntity batch = new BatchEntity();
     batch.setType(batchJobHandler.getType());
-    batch.setTotalJobs(BatchUtil.calculateBatchSize(processEngineConfiguration, configuration));
+    batch.setTotalJobs(BatchUtil.calculateBatchSize(processEngineConfiguration, configuration, batch.getType()));
     batch.setBatchJobsPerSeed(processEngineConfiguration.getBatchJobsPerSeed());
-    batch.setInvocationsPerBatchJob(processEngineConfiguration.getInvocationsPerBatchJob());
+    batch.setInvocationsPerBatchJob(BatchUtil.getInvocationsPerBatchJob(batch.getType(), processEngineConfiguration));
     batch.setConfigurationBytes(batchJobHandler.writeConfiguration(configuration));
     batch.setTenantId(processDefinition.getTenantId());
     commandContext.getBatchManager().insertBatch(batch);
@@ -15,6 +15,8 @@
  */
 package org.camunda.bpm.engine.impl.batch.deletion;
 
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensurePositive;
+
 import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.impl.ProcessInstanceQueryImpl;
 import org.camunda.bpm.engine.impl.batch.AbstractBatchJobHandler;
@@ -94,6 +96,9 @@ public class DeleteProcessInstancesJobHandler extends AbstractBatchJobHandler<De
 
     int batchJobsPerSeed = batch.getBatchJobsPerSeed();
     int invocationsPerBatchJob = batch.getInvocationsPerBatchJob();
+    // a non-positive job size would never advance the cursor below
+    ensurePositive("batchJobsPerSeed", (long) batchJobsPerSeed);
+    ensurePositive("invocationsPerBatchJob", (long) invocationsPerBatchJob);
 
     int numberOfItemsToProcess = Math.min(invocationsPerBatchJob * batchJobsPerSeed, ids.size());
     // view of process instances to process
@@ -127,6 +132,12 @@ public class DeleteProcessInstancesJobHandler extends AbstractBatchJobHandler<De
       createJobEntities(batch, configuration, null, processIds, invocationsPerBatchJob);
     }
 
+    // remove all ids processed by this seed job at once
+    processIds.clear();
+
+    // update batch configuration
+    batch.setConfigurationBytes(writeConfiguration(configuration));
+
     return ids.isEmpty();
   }
 
@@ -139,10 +150,12 @@ public class DeleteProcessInstancesJobHandler extends AbstractBatchJobHandler<De
     JobManager jobManager = commandContext.getJobManager();
 
     int createdJobs = 0;
-    while (!processInstancesToHandle.isEmpty()) {
-      int lastIdIndex = Math.min(invocationsPerBatchJob, processInstancesToHandle.size());
+    // move a cursor over the ids instead of removing the ids of every job
+    // from the head of the list, which would shift all remaining ids per job
+    for (int cursor = 0; cursor < processInstancesToHandle.size(); cursor += invocationsPerBatchJob) {
+      int lastIdIndex = Math.min(cursor + invocationsPerBatchJob, processInstancesToHandle.size());
       // view of process instances for this job
-      List<String> idsForJob = processInstancesToHandle.subList(0, lastIdIndex);
+      List<String> idsForJob = processInstancesToHandle.subList(cursor, lastIdIndex);
 
       DeleteProcessInstanceBatchConfiguration jobConfiguration = createJobConfiguration(configuration, idsForJob);
       ByteArrayEntity configurationEntity = saveConfiguration(byteArrayManager, jobConfiguration);
@@ -152,14 +165,9 @@ public class DeleteProcessInstancesJobHandler extends AbstractBatchJobHandler<De
 
       jobManager.insertAndHintJobExecutor(job);
       createdJobs++;
-
-      idsForJob.clear();
     }
 
     // update created jobs for batch
     batch.setJobsCreated(batch.getJobsCreated() + createdJobs);
-
-    // update batch configuration
-    batch.setConfigurationBytes(writeConfiguration(configuration));
   }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.batch.signal;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.batch.BatchConfiguration;
+import org.camunda.bpm.engine.impl.identity.Authentication;
+
+/**
+ * Configuration of a signal event delivery batch. The configuration of the batch
+ * holds the id of the last signal event subscription a batch job was created for,
+ * the configuration of a batch job holds the ids of the subscriptions to deliver to.
+ * Both hold the authentication of the sender which is used to check the permissions
+ * when the signal is delivered.
+ *
+ * @see SignalEventDeliveryBatchConfigurationJsonConverter
+ */
+public class SignalEventDeliveryBatchConfiguration extends BatchConfiguration {
+
+  protected String signalName;
+  protected String tenantId;
+  protected boolean isTenantIdSet;
+  protected String lastEventSubscriptionId;
+
+  protected boolean isAuthenticated;
+  protected String userId;
+  protected List<String> groupIds;
+  protected List<String> tenantIds;
+
+  public SignalEventDeliveryBatchConfiguration(List<String> ids) {
+    super(ids);
+  }
+
+  public String getSignalName() {
+    return signalName;
+  }
+
+  public void setSignalName(String signalName) {
+    this.signalName = signalName;
+  }
+
+  public String getTenantId() {
+    return tenantId;
+  }
+
+  public void setTenantId(String tenantId) {
+    this.tenantId = tenantId;
+  }
+
+  public boolean isTenantIdSet() {
+    return isTenantIdSet;
+  }
+
+  public void setTenantIdSet(boolean isTenantIdSet) {
+    this.isTenantIdSet = isTenantIdSet;
+  }
+
+  public String getLastEventSubscriptionId() {
+    return lastEventSubscriptionId;
+  }
+
+  public void setLastEventSubscriptionId(String lastEventSubscriptionId) {
+    this.lastEventSubscriptionId = lastEventSubscriptionId;
+  }
+
+  public boolean isAuthenticated() {
+    return isAuthenticated;
+  }
+
+  public void setAuthenticated(boolean isAuthenticated) {
+    this.isAuthenticated = isAuthenticated;
+  }
+
+  public String getUserId() {
+    return userId;
+  }
+
+  public void setUserId(String userId) {
+    this.userId = userId;
+  }
+
+  public List<String> getGroupIds() {
+    return groupIds;
+  }
+
+  public void setGroupIds(List<String> groupIds) {
+    this.groupIds = groupIds;
+  }
+
+  public List<String> getTenantIds() {
+    return tenantIds;
+  }
+
+  public void setTenantIds(List<String> tenantIds) {
+    this.tenantIds = tenantIds;
+  }
+
+  /**
+   * @return the authentication of the sender or <code>null</code> if the signal
+   * was sent without an authentication
+   */
+  public Authentication getAuthentication() {
+    if (isAuthenticated) {
+      return new Authentication(userId, groupIds, tenantIds);
+    } else {
+      return null;
+    }
+  }
+
+  public void setAuthentication(Authentication authentication) {
+    isAuthenticated = authentication != null;
+    if (authentication != null) {
+      userId = authentication.getUserId();
+      groupIds = authentication.getGroupIds();
+      tenantIds = authentication.getTenantIds();
+    }
+  }
+
+}
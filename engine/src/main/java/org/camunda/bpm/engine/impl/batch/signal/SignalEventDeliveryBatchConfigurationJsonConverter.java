@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.batch.signal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.json.JsonObjectConverter;
+import org.camunda.bpm.engine.impl.util.JsonUtil;
+import com.google.gson.JsonObject;
+
+public class SignalEventDeliveryBatchConfigurationJsonConverter extends JsonObjectConverter<SignalEventDeliveryBatchConfiguration> {
+
+  public static final SignalEventDeliveryBatchConfigurationJsonConverter INSTANCE = new SignalEventDeliveryBatchConfigurationJsonConverter();
+
+  public static final String EVENT_SUBSCRIPTION_IDS = "eventSubscriptionIds";
+  public static final String SIGNAL_NAME = "signalName";
+  public static final String TENANT_ID = "tenantId";
+  public static final String IS_TENANT_ID_SET = "isTenantIdSet";
+  public static final String LAST_EVENT_SUBSCRIPTION_ID = "lastEventSubscriptionId";
+  public static final String IS_AUTHENTICATED = "isAuthenticated";
+  public static final String USER_ID = "userId";
+  public static final String GROUP_IDS = "groupIds";
+  public static final String TENANT_IDS = "tenantIds";
+
+  @Override
+  public JsonObject toJsonObject(SignalEventDeliveryBatchConfiguration configuration) {
+    JsonObject json = JsonUtil.createObject();
+
+    JsonUtil.addListField(json, EVENT_SUBSCRIPTION_IDS, configuration.getIds());
+    JsonUtil.addField(json, SIGNAL_NAME, configuration.getSignalName());
+    JsonUtil.addField(json, TENANT_ID, configuration.getTenantId());
+    JsonUtil.addField(json, IS_TENANT_ID_SET, configuration.isTenantIdSet());
+    JsonUtil.addField(json, LAST_EVENT_SUBSCRIPTION_ID, configuration.getLastEventSubscriptionId());
+    JsonUtil.addField(json, IS_AUTHENTICATED, configuration.isAuthenticated());
+    JsonUtil.addField(json, USER_ID, configuration.getUserId());
+    JsonUtil.addListField(json, GROUP_IDS, configuration.getGroupIds());
+    JsonUtil.addListField(json, TENANT_IDS, configuration.getTenantIds());
+    return json;
+  }
+
+  @Override
+  public SignalEventDeliveryBatchConfiguration toObject(JsonObject json) {
+    SignalEventDeliveryBatchConfiguration configuration = new SignalEventDeliveryBatchConfiguration(readList(json, EVENT_SUBSCRIPTION_IDS));
+
+    configuration.setSignalName(readString(json, SIGNAL_NAME));
+    configuration.setTenantId(readString(json, TENANT_ID));
+    configuration.setTenantIdSet(JsonUtil.getBoolean(json, IS_TENANT_ID_SET));
+    configuration.setLastEventSubscriptionId(readString(json, LAST_EVENT_SUBSCRIPTION_ID));
+    configuration.setAuthenticated(JsonUtil.getBoolean(json, IS_AUTHENTICATED));
+    configuration.setUserId(readString(json, USER_ID));
+
+    if (json.has(GROUP_IDS)) {
+      configuration.setGroupIds(readList(json, GROUP_IDS));
+    }
+    if (json.has(TENANT_IDS)) {
+      configuration.setTenantIds(readList(json, TENANT_IDS));
+    }
+
+    return configuration;
+  }
+
+  protected String readString(JsonObject json, String memberName) {
+    // a missing field stands for null, as opposed to an empty string
+    if (json.has(memberName)) {
+      return JsonUtil.getString(json, memberName);
+    } else {
+      return null;
+    }
+  }
+
+  protected List<String> readList(JsonObject json, String memberName) {
+    return new ArrayList<String>(JsonUtil.asList(JsonUtil.getArray(json, memberName)));
+  }
+
+}
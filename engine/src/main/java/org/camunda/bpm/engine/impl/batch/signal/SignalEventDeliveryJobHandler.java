@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.batch.signal;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensurePositive;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.IdentityService;
+import org.camunda.bpm.engine.batch.Batch;
+import org.camunda.bpm.engine.impl.batch.AbstractBatchJobHandler;
+import org.camunda.bpm.engine.impl.batch.BatchEntity;
+import org.camunda.bpm.engine.impl.batch.BatchJobConfiguration;
+import org.camunda.bpm.engine.impl.batch.BatchJobContext;
+import org.camunda.bpm.engine.impl.batch.BatchJobDeclaration;
+import org.camunda.bpm.engine.impl.cfg.CommandChecker;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.identity.Authentication;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobDeclaration;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayManager;
+import org.camunda.bpm.engine.impl.persistence.entity.EventSubscriptionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.EventSubscriptionManager;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobManager;
+import org.camunda.bpm.engine.impl.persistence.entity.MessageEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
+
+/**
+ * Delivers a signal to the signal event subscriptions with the name of the signal.
+ *
+ * <p>The seed job reads the ids of the subscriptions page by page, ordered by id
+ * and starting after the last id of the previous page, so that neither the batch
+ * nor the seed job has to hold all subscriptions at once. The ids are read and the
+ * signal is delivered with the authentication of the sender, i.e. the tenant check
+ * and the authorization check for every process instance are done by the batch jobs.
+ * Subscriptions which no longer exist when a batch job runs are skipped.
+ */
+public class SignalEventDeliveryJobHandler extends AbstractBatchJobHandler<SignalEventDeliveryBatchConfiguration> {
+
+  public static final BatchJobDeclaration JOB_DECLARATION = new BatchJobDeclaration(Batch.TYPE_SIGNAL_EVENT_DELIVERY);
+
+  @Override
+  public String getType() {
+    return Batch.TYPE_SIGNAL_EVENT_DELIVERY;
+  }
+
+  @Override
+  protected SignalEventDeliveryBatchConfigurationJsonConverter getJsonConverterInstance() {
+    return SignalEventDeliveryBatchConfigurationJsonConverter.INSTANCE;
+  }
+
+  @Override
+  public JobDeclaration<BatchJobContext, MessageEntity> getJobDeclaration() {
+    return JOB_DECLARATION;
+  }
+
+  @Override
+  public boolean createJobs(BatchEntity batch) {
+    CommandContext commandContext = Context.getCommandContext();
+    ByteArrayManager byteArrayManager = commandContext.getByteArrayManager();
+    JobManager jobManager = commandContext.getJobManager();
+
+    SignalEventDeliveryBatchConfiguration configuration = readConfiguration(batch.getConfigurationBytes());
+
+    int batchJobsPerSeed = batch.getBatchJobsPerSeed();
+    int invocationsPerBatchJob = batch.getInvocationsPerBatchJob();
+    ensurePositive("batchJobsPerSeed", (long) batchJobsPerSeed);
+    ensurePositive("invocationsPerBatchJob", (long) invocationsPerBatchJob);
+
+    int pageSize = batchJobsPerSeed * invocationsPerBatchJob;
+    List<String> ids = findEventSubscriptionIds(commandContext, configuration, pageSize);
+
+    int createdJobs = 0;
+    for (int cursor = 0; cursor < ids.size(); cursor += invocationsPerBatchJob) {
+      List<String> idsForJob = ids.subList(cursor, Math.min(cursor + invocationsPerBatchJob, ids.size()));
+
+      SignalEventDeliveryBatchConfiguration jobConfiguration = createJobConfiguration(configuration, idsForJob);
+      ByteArrayEntity configurationEntity = saveConfiguration(byteArrayManager, jobConfiguration);
+
+      JobEntity job = createBatchJob(batch, configurationEntity);
+      postProcessJob(configuration, job);
+      jobManager.insertAndHintJobExecutor(job);
+
+      createdJobs++;
+    }
+
+    if (!ids.isEmpty()) {
+      // the next seed job continues after the last subscription of this page
+      configuration.setLastEventSubscriptionId(ids.get(ids.size() - 1));
+    }
+
+    batch.setJobsCreated(batch.getJobsCreated() + createdJobs);
+
+    boolean done = ids.size() < pageSize;
+    if (done) {
+      // the total jobs are estimated when the batch is created, correct them
+      // since subscriptions may have been added or removed in the meantime
+      batch.setTotalJobs(batch.getJobsCreated());
+    }
+
+    batch.setConfigurationBytes(writeConfiguration(configuration));
+
+    return done;
+  }
+
+  protected List<String> findEventSubscriptionIds(CommandContext commandContext, SignalEventDeliveryBatchConfiguration configuration, int maxResults) {
+    Authentication currentAuthentication = authenticateSender(commandContext, configuration);
+    try {
+      return commandContext.getEventSubscriptionManager().findSignalEventSubscriptionIdsByEventName(configuration.getSignalName(),
+          configuration.getTenantId(), configuration.isTenantIdSet(), configuration.getLastEventSubscriptionId(), maxResults);
+
+    } finally {
+      restoreAuthentication(commandContext, currentAuthentication);
+    }
+  }
+
+  @Override
+  protected SignalEventDeliveryBatchConfiguration createJobConfiguration(SignalEventDeliveryBatchConfiguration configuration, List<String> eventSubscriptionIdsForJob) {
+    SignalEventDeliveryBatchConfiguration jobConfiguration = new SignalEventDeliveryBatchConfiguration(eventSubscriptionIdsForJob);
+    jobConfiguration.setSignalName(configuration.getSignalName());
+    jobConfiguration.setAuthentication(configuration.getAuthentication());
+    return jobConfiguration;
+  }
+
+  @Override
+  public void execute(BatchJobConfiguration configuration, ExecutionEntity execution, CommandContext commandContext, String tenantId) {
+    ByteArrayEntity configurationEntity = commandContext
+        .getDbEntityManager()
+        .selectById(ByteArrayEntity.class, configuration.getConfigurationByteArrayId());
+
+    SignalEventDeliveryBatchConfiguration batchConfiguration = readConfiguration(configurationEntity.getBytes());
+
+    // deliver the signal as the sender, like a signal which is sent synchronously
+    Authentication currentAuthentication = authenticateSender(commandContext, batchConfiguration);
+    try {
+      deliverSignal(commandContext, batchConfiguration.getIds());
+
+    } finally {
+      restoreAuthentication(commandContext, currentAuthentication);
+    }
+
+    commandContext.getByteArrayManager().delete(configurationEntity);
+  }
+
+  protected void deliverSignal(CommandContext commandContext, List<String> eventSubscriptionIds) {
+    EventSubscriptionManager eventSubscriptionManager = commandContext.getEventSubscriptionManager();
+    DeploymentCache deploymentCache = commandContext.getProcessEngineConfiguration().getDeploymentCache();
+
+    for (String eventSubscriptionId : eventSubscriptionIds) {
+      EventSubscriptionEntity eventSubscription = eventSubscriptionManager.findEventSubscriptionById(eventSubscriptionId);
+
+      if (eventSubscription == null) {
+        // the subscription was removed after the batch job was created
+        continue;
+      }
+
+      if (eventSubscription.getExecutionId() != null) {
+        notifyExecution(commandContext, eventSubscription);
+      } else {
+        startProcessInstance(commandContext, eventSubscription, deploymentCache);
+      }
+    }
+  }
+
+  protected void notifyExecution(CommandContext commandContext, EventSubscriptionEntity eventSubscription) {
+    ExecutionEntity subscribedExecution = eventSubscription.getExecution();
+
+    if (!subscribedExecution.isEnded() && !subscribedExecution.isCanceled() && !subscribedExecution.isSuspended()) {
+      for (CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+        checker.checkUpdateProcessInstanceById(eventSubscription.getProcessInstanceId());
+      }
+
+      eventSubscription.eventReceived(null, false);
+    }
+  }
+
+  protected void startProcessInstance(CommandContext commandContext, EventSubscriptionEntity eventSubscription, DeploymentCache deploymentCache) {
+    String processDefinitionId = eventSubscription.getConfiguration();
+    if (processDefinitionId == null) {
+      return;
+    }
+
+    ProcessDefinitionEntity processDefinition = deploymentCache.findDeployedProcessDefinitionById(processDefinitionId);
+    if (processDefinition != null && !processDefinition.isSuspended()) {
+      for (CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+        checker.checkCreateProcessInstance(processDefinition);
+      }
+
+      ActivityImpl signalStartEvent = processDefinition.findActivity(eventSubscription.getActivityId());
+      processDefinition.createProcessInstanceForInitial(signalStartEvent).start();
+    }
+  }
+
+  /**
+   * Sets the authentication of the sender of the signal.
+   *
+   * @return the authentication which was set before
+   */
+  protected Authentication authenticateSender(CommandContext commandContext, SignalEventDeliveryBatchConfiguration configuration) {
+    IdentityService identityService = commandContext.getProcessEngineConfiguration().getIdentityService();
+    Authentication currentAuthentication = identityService.getCurrentAuthentication();
+
+    identityService.setAuthentication(configuration.getAuthentication());
+
+    return currentAuthentication;
+  }
+
+  protected void restoreAuthentication(CommandContext commandContext, Authentication authentication) {
+    commandContext.getProcessEngineConfiguration().getIdentityService().setAuthentication(authentication);
+  }
+
+}
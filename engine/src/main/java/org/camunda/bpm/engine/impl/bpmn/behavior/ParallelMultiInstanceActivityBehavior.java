@@ -111,12 +111,18 @@ public class ParallelMultiInstanceActivityBehavior extends MultiInstanceActivity
   }
 
   protected boolean allExecutionsEnded(ActivityExecution scopeExecution, ActivityExecution endedExecution) {
+    // check the counter first; scanning the concurrent executions walks the whole execution
+    // tree below the scope, which fetches the children of every instance if the execution
+    // tree is not prefetched, so it should only happen for the last instance
+    if (getLocalLoopVariable(scopeExecution, NUMBER_OF_ACTIVE_INSTANCES) > 0) {
+      return false;
+    }
+
     int numberOfInactiveConcurrentExecutions = endedExecution.findInactiveConcurrentExecutions(endedExecution.getActivity()).size();
     int concurrentExecutions = scopeExecution.getExecutions().size();
 
     // no active instances exist and all concurrent executions are inactive
-    return getLocalLoopVariable(scopeExecution, NUMBER_OF_ACTIVE_INSTANCES) <= 0 &&
-           numberOfInactiveConcurrentExecutions == concurrentExecutions;
+    return numberOfInactiveConcurrentExecutions == concurrentExecutions;
   }
 
   @Override
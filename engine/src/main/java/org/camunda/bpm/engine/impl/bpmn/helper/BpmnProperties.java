@@ -15,6 +15,8 @@
  */
 package org.camunda.bpm.engine.impl.bpmn.helper;
 
+import java.util.Set;
+
 import org.camunda.bpm.engine.impl.bpmn.parser.ErrorEventDefinition;
 import org.camunda.bpm.engine.impl.bpmn.parser.EscalationEventDefinition;
 import org.camunda.bpm.engine.impl.bpmn.parser.EventSubscriptionDeclaration;
@@ -25,6 +27,7 @@ import org.camunda.bpm.engine.impl.core.model.PropertyMapKey;
 import org.camunda.bpm.engine.impl.jobexecutor.TimerDeclarationImpl;
 import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
 
+import static org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse.PROPERTYNAME_CONDITIONAL_EVENT_VARIABLE_NAMES;
 import static org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse.PROPERTYNAME_HAS_CONDITIONAL_EVENTS;
 
 import org.camunda.bpm.engine.impl.bpmn.parser.ConditionalEventDefinition;
@@ -65,6 +68,12 @@ public class BpmnProperties {
 
   public static final PropertyKey<Boolean> HAS_CONDITIONAL_EVENTS = new PropertyKey<Boolean>(PROPERTYNAME_HAS_CONDITIONAL_EVENTS);
 
+  /**
+   * Names of the variables which can satisfy a conditional event of the process definition;
+   * <code>null</code> if any variable can.
+   */
+  public static final PropertyKey<Set<String>> CONDITIONAL_EVENT_VARIABLE_NAMES = new PropertyKey<Set<String>>(PROPERTYNAME_CONDITIONAL_EVENT_VARIABLE_NAMES);
+
   public static final PropertyKey<ConditionalEventDefinition> CONDITIONAL_EVENT_DEFINITION = new PropertyKey<ConditionalEventDefinition>("conditionalEventDefinition");
 
 }
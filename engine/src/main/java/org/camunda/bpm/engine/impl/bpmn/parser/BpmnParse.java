@@ -106,6 +106,7 @@ public class BpmnParse extends Parse {
   public static final String PROPERTYNAME_DOCUMENTATION = "documentation";
   public static final String PROPERTYNAME_INITIATOR_VARIABLE_NAME = "initiatorVariableName";
   public static final String PROPERTYNAME_HAS_CONDITIONAL_EVENTS = "hasConditionalEvents";
+  public static final String PROPERTYNAME_CONDITIONAL_EVENT_VARIABLE_NAMES = "conditionalEventVariableNames";
   public static final String PROPERTYNAME_CONDITION = "condition";
   public static final String PROPERTYNAME_CONDITION_TEXT = "conditionText";
   public static final String PROPERTYNAME_VARIABLE_DECLARATIONS = "variableDeclarations";
@@ -3525,11 +3526,16 @@ public class BpmnParse extends Parse {
       String expression = conditionExprElement.getText().trim();
       conditionalEventDefinition.setConditionAsString(expression);
 
-      conditionalActivity.getProcessDefinition().getProperties().set(BpmnProperties.HAS_CONDITIONAL_EVENTS, true);
+      if (condition instanceof UelExpressionCondition) {
+        conditionalEventDefinition.setConditionVariableNames(ExpressionVariableNameCollector.collectVariableNames(expression));
+      }
 
       final String variableName = element.attributeNS(CAMUNDA_BPMN_EXTENSIONS_NS, "variableName");
       conditionalEventDefinition.setVariableName(variableName);
 
+      addConditionalEventVariableNames(conditionalActivity.getProcessDefinition(), conditionalEventDefinition.getDependentVariableNames());
+      conditionalActivity.getProcessDefinition().getProperties().set(BpmnProperties.HAS_CONDITIONAL_EVENTS, true);
+
       final String variableEvents = element.attributeNS(CAMUNDA_BPMN_EXTENSIONS_NS, "variableEvents");
       final List<String> variableEventsList = parseCommaSeparatedList(variableEvents);
       conditionalEventDefinition.setVariableEvents(new HashSet<String>(variableEventsList));
@@ -3547,6 +3553,27 @@ public class BpmnParse extends Parse {
     return conditionalEventDefinition;
   }
 
+  /**
+   * Adds the dependent variable names of a conditional event to the names of the process definition.
+   * If the names of any conditional event are unknown then the names of the process definition
+   * are unknown as well, which is represented by a <code>null</code> value.
+   */
+  protected void addConditionalEventVariableNames(ProcessDefinitionImpl processDefinition, Set<String> variableNames) {
+    Properties properties = processDefinition.getProperties();
+    boolean isFirstConditionalEvent = !properties.contains(BpmnProperties.HAS_CONDITIONAL_EVENTS);
+    Set<String> processVariableNames = properties.get(BpmnProperties.CONDITIONAL_EVENT_VARIABLE_NAMES);
+
+    if (variableNames == null) {
+      properties.set(BpmnProperties.CONDITIONAL_EVENT_VARIABLE_NAMES, null);
+
+    } else if (isFirstConditionalEvent) {
+      properties.set(BpmnProperties.CONDITIONAL_EVENT_VARIABLE_NAMES, new HashSet<String>(variableNames));
+
+    } else if (processVariableNames != null) {
+      processVariableNames.addAll(variableNames);
+    }
+  }
+
   /**
    * Parses a subprocess (formally known as an embedded subprocess): a
    * subprocess defined within another process definition.
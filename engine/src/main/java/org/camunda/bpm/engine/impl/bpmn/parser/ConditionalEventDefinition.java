@@ -16,6 +16,7 @@
 package org.camunda.bpm.engine.impl.bpmn.parser;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Set;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.impl.Condition;
@@ -38,6 +39,7 @@ public class ConditionalEventDefinition extends EventSubscriptionDeclaration imp
   protected boolean interrupting;
   protected String variableName;
   protected Set<String> variableEvents;
+  protected Set<String> conditionVariableNames;
   protected ActivityImpl conditionalActivity;
 
   public ConditionalEventDefinition(Condition condition, ActivityImpl conditionalActivity) {
@@ -79,6 +81,34 @@ public class ConditionalEventDefinition extends EventSubscriptionDeclaration imp
     this.variableEvents = variableEvents;
   }
 
+  /**
+   * @return the names of the variables the condition reads or <code>null</code>
+   * if they are unknown
+   */
+  public Set<String> getConditionVariableNames() {
+    return conditionVariableNames;
+  }
+
+  public void setConditionVariableNames(Set<String> conditionVariableNames) {
+    this.conditionVariableNames = conditionVariableNames;
+  }
+
+  /**
+   * Returns the names of the variables a change of which can satisfy the condition.
+   * These are the variable name specified on the event or the variables read by the condition.
+   *
+   * @return the variable names or <code>null</code> if any variable change can satisfy the condition
+   */
+  public Set<String> getDependentVariableNames() {
+    if (variableName != null) {
+      return Collections.singleton(variableName);
+    } else if (conditionVariableNames != null && !conditionVariableNames.isEmpty()) {
+      return conditionVariableNames;
+    } else {
+      return null;
+    }
+  }
+
   public String getConditionAsString() {
     return conditionAsString;
   }
@@ -88,8 +118,9 @@ public class ConditionalEventDefinition extends EventSubscriptionDeclaration imp
   }
 
   public boolean shouldEvaluateForVariableEvent(VariableEvent event) {
+    Set<String> dependentVariableNames = getDependentVariableNames();
     return
-    ((variableName == null || event.getVariableInstance().getName().equals(variableName))
+    ((dependentVariableNames == null || dependentVariableNames.contains(event.getVariableInstance().getName()))
                                           &&
     ((variableEvents == null || variableEvents.isEmpty()) || variableEvents.contains(event.getEventName())));
   }
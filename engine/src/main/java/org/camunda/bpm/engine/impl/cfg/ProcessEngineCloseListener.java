@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cfg;
+
+import org.camunda.bpm.engine.ProcessEngine;
+
+/**
+ * Is notified when a process engine is closed, e.g. to release the resources
+ * a {@link ProcessEnginePlugin} allocated for the process engine.
+ * Listeners are registered with
+ * {@link ProcessEngineConfigurationImpl#getProcessEngineCloseListeners()}.
+ */
+public interface ProcessEngineCloseListener {
+
+  /**
+   * Invoked after the job executor stopped executing jobs for the process engine
+   * and before the process engine configuration is closed.
+   */
+  void onClose(ProcessEngine processEngine);
+
+}
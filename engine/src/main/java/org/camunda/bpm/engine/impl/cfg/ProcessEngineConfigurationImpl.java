@@ -101,6 +101,7 @@ import org.camunda.bpm.engine.impl.batch.deletion.DeleteHistoricProcessInstances
 import org.camunda.bpm.engine.impl.batch.deletion.DeleteProcessInstancesJobHandler;
 import org.camunda.bpm.engine.impl.batch.externaltask.SetExternalTaskRetriesJobHandler;
 import org.camunda.bpm.engine.impl.batch.job.SetJobRetriesJobHandler;
+import org.camunda.bpm.engine.impl.batch.signal.SignalEventDeliveryJobHandler;
 import org.camunda.bpm.engine.impl.batch.update.UpdateProcessInstancesSuspendStateJobHandler;
 import org.camunda.bpm.engine.impl.bpmn.behavior.ExternalTaskActivityBehavior;
 import org.camunda.bpm.engine.impl.bpmn.deployer.BpmnDeployer;
@@ -176,7 +177,10 @@ import org.camunda.bpm.engine.impl.form.validator.RequiredValidator;
 import org.camunda.bpm.engine.impl.history.DefaultHistoryRemovalTimeProvider;
 import org.camunda.bpm.engine.impl.history.HistoryLevel;
 import org.camunda.bpm.engine.impl.history.HistoryRemovalTimeProvider;
+import org.camunda.bpm.engine.impl.history.analytics.ProcessInstanceDurationHistoryEventHandler;
+import org.camunda.bpm.engine.impl.history.analytics.ProcessInstanceDurationStore;
 import org.camunda.bpm.engine.impl.history.event.HistoricDecisionInstanceManager;
+import org.camunda.bpm.engine.impl.history.handler.CompositeHistoryEventHandler;
 import org.camunda.bpm.engine.impl.history.handler.DbHistoryEventHandler;
 import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
 import org.camunda.bpm.engine.impl.history.parser.HistoryParseListener;
@@ -223,6 +227,7 @@ import org.camunda.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupBatc
 import org.camunda.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupHelper;
 import org.camunda.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupJobHandler;
+import org.camunda.bpm.engine.impl.management.StatisticsCache;
 import org.camunda.bpm.engine.impl.metrics.MetricsRegistry;
 import org.camunda.bpm.engine.impl.metrics.MetricsReporterIdProvider;
 import org.camunda.bpm.engine.impl.metrics.SimpleIpBasedProvider;
@@ -480,6 +485,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    * Number of invocations executed by a single batch job
    */
   protected int invocationsPerBatchJob = 1;
+  /**
+   * Number of invocations executed by a single batch job per batch type,
+   * e.g. to execute migration batches with one invocation per job in parallel
+   * while other batches keep the default of {@link #invocationsPerBatchJob};
+   * batch types mapped to <code>null</code> or a value below 1 use the default as well
+   */
+  protected Map<String, Integer> invocationsPerBatchJobByBatchType;
   /**
    * seconds to wait between polling for batch completion
    */
@@ -505,6 +517,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected String defaultSerializationFormat = Variables.SerializationDataFormats.JAVA.getName();
   protected boolean javaSerializationFormatEnabled = false;
+  /**
+   * If true, setting a variable to a value which is serialized exactly like its
+   * current value neither updates the variable nor produces a history event or
+   * variable update notification.
+   */
+  protected boolean skipUnchangedVariableUpdates = false;
   protected String defaultCharsetName = null;
   protected Charset defaultCharset = null;
 
@@ -610,6 +628,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected List<ProcessEnginePlugin> processEnginePlugins = new ArrayList<ProcessEnginePlugin>();
 
+  /** notified when the process engine is closed */
+  protected List<ProcessEngineCloseListener> processEngineCloseListeners = new ArrayList<ProcessEngineCloseListener>();
+
   protected HistoryEventProducer historyEventProducer;
 
   protected CmmnHistoryEventProducer cmmnHistoryEventProducer;
@@ -618,6 +639,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected HistoryEventHandler historyEventHandler;
 
+  /**
+   * If true, the durations of finished process instances are additionally kept in
+   * a {@link ProcessInstanceDurationStore} from which historic process instance
+   * duration reports are answered instead of querying the history tables.
+   *
+   * <p>The store is built from the history tables when the engine is built and is
+   * afterwards only updated with the process instances finished by this engine.
+   * Reports therefore differ from the history tables once historic process instances
+   * are deleted (e.g. by the history cleanup) or are finished by other engines of a
+   * cluster, until the engine is built again. Only enable this if these reports are
+   * allowed to be approximate.</p>
+   */
+  protected boolean inMemoryDurationReportEnabled = false;
+  protected ProcessInstanceDurationStore processInstanceDurationStore;
+
+  /**
+   * The time in milliseconds for which the results of process definition and
+   * activity statistics queries are cached. The cache is disabled if the value
+   * is not positive.
+   */
+  protected long statisticsCacheTimeToLive = 0;
+  protected int statisticsCacheCapacity = 100;
+  protected StatisticsCache statisticsCache;
+
   protected boolean isExecutionTreePrefetchEnabled = true;
 
   /**
@@ -798,6 +843,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initCmmnHistoryEventProducer();
     initDmnHistoryEventProducer();
     initHistoryEventHandler();
+    initStatisticsCache();
     initExpressionManager();
     initBeans();
     initArtifactFactory();
@@ -1092,6 +1138,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
       DeleteHistoricDecisionInstancesJobHandler deleteHistoricDecisionInstancesJobHandler = new DeleteHistoricDecisionInstancesJobHandler();
       batchHandlers.put(deleteHistoricDecisionInstancesJobHandler.getType(), deleteHistoricDecisionInstancesJobHandler);
+
+      SignalEventDeliveryJobHandler signalEventDeliveryJobHandler = new SignalEventDeliveryJobHandler();
+      batchHandlers.put(signalEventDeliveryJobHandler.getType(), signalEventDeliveryJobHandler);
     }
 
     if (customBatchJobHandlers != null) {
@@ -2296,6 +2345,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     if (historyEventHandler == null) {
       historyEventHandler = new DbHistoryEventHandler();
     }
+
+    if (inMemoryDurationReportEnabled) {
+      if (processInstanceDurationStore == null) {
+        processInstanceDurationStore = new ProcessInstanceDurationStore();
+      }
+      historyEventHandler = new CompositeHistoryEventHandler(historyEventHandler,
+          new ProcessInstanceDurationHistoryEventHandler(processInstanceDurationStore));
+    }
+  }
+
+  protected void initStatisticsCache() {
+    if (statisticsCache == null && statisticsCacheTimeToLive > 0) {
+      statisticsCache = new StatisticsCache(statisticsCacheCapacity, statisticsCacheTimeToLive);
+    }
   }
 
   // password digest //////////////////////////////////////////////////////////
@@ -3276,6 +3339,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return historyEventHandler;
   }
 
+  public boolean isInMemoryDurationReportEnabled() {
+    return inMemoryDurationReportEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setInMemoryDurationReportEnabled(boolean inMemoryDurationReportEnabled) {
+    this.inMemoryDurationReportEnabled = inMemoryDurationReportEnabled;
+    return this;
+  }
+
+  public ProcessInstanceDurationStore getProcessInstanceDurationStore() {
+    return processInstanceDurationStore;
+  }
+
+  public ProcessEngineConfigurationImpl setProcessInstanceDurationStore(ProcessInstanceDurationStore processInstanceDurationStore) {
+    this.processInstanceDurationStore = processInstanceDurationStore;
+    return this;
+  }
+
+  public long getStatisticsCacheTimeToLive() {
+    return statisticsCacheTimeToLive;
+  }
+
+  public ProcessEngineConfigurationImpl setStatisticsCacheTimeToLive(long statisticsCacheTimeToLive) {
+    this.statisticsCacheTimeToLive = statisticsCacheTimeToLive;
+    return this;
+  }
+
+  public int getStatisticsCacheCapacity() {
+    return statisticsCacheCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setStatisticsCacheCapacity(int statisticsCacheCapacity) {
+    this.statisticsCacheCapacity = statisticsCacheCapacity;
+    return this;
+  }
+
+  public StatisticsCache getStatisticsCache() {
+    return statisticsCache;
+  }
+
+  public ProcessEngineConfigurationImpl setStatisticsCache(StatisticsCache statisticsCache) {
+    this.statisticsCache = statisticsCache;
+    return this;
+  }
+
   public IncidentHandler getIncidentHandler(String incidentType) {
     return incidentHandlers.get(incidentType);
   }
@@ -3328,6 +3436,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.invocationsPerBatchJob = invocationsPerBatchJob;
   }
 
+  public Map<String, Integer> getInvocationsPerBatchJobByBatchType() {
+    return invocationsPerBatchJobByBatchType;
+  }
+
+  public void setInvocationsPerBatchJobByBatchType(Map<String, Integer> invocationsPerBatchJobByBatchType) {
+    this.invocationsPerBatchJobByBatchType = invocationsPerBatchJobByBatchType;
+  }
+
   public int getBatchPollTime() {
     return batchPollTime;
   }
@@ -3408,6 +3524,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.processEnginePlugins = processEnginePlugins;
   }
 
+  public List<ProcessEngineCloseListener> getProcessEngineCloseListeners() {
+    return processEngineCloseListeners;
+  }
+
+  public ProcessEngineConfigurationImpl setProcessEngineCloseListeners(List<ProcessEngineCloseListener> processEngineCloseListeners) {
+    this.processEngineCloseListeners = processEngineCloseListeners;
+    return this;
+  }
+
   public ProcessEngineConfigurationImpl setHistoryEventProducer(HistoryEventProducer historyEventProducer) {
     this.historyEventProducer = historyEventProducer;
     return this;
@@ -3609,6 +3734,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.javaSerializationFormatEnabled = javaSerializationFormatEnabled;
   }
 
+  public boolean isSkipUnchangedVariableUpdates() {
+    return skipUnchangedVariableUpdates;
+  }
+
+  public ProcessEngineConfigurationImpl setSkipUnchangedVariableUpdates(boolean skipUnchangedVariableUpdates) {
+    this.skipUnchangedVariableUpdates = skipUnchangedVariableUpdates;
+    return this;
+  }
+
   public ProcessEngineConfigurationImpl setDefaultCharsetName(String defaultCharsetName) {
     this.defaultCharsetName = defaultCharsetName;
     return this;
@@ -16,6 +16,8 @@
 package org.camunda.bpm.engine.impl.cmd;
 
 import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
 import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingListener;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
@@ -23,6 +25,7 @@ import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.jobexecutor.AcquiredJobs;
+import org.camunda.bpm.engine.impl.jobexecutor.JobConcurrencyLimiter;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
@@ -54,14 +57,32 @@ public class AcquireJobsCmd implements Command<AcquiredJobs>, OptimisticLockingL
 
     acquiredJobs = new AcquiredJobs(numJobsToAcquire);
 
+    JobConcurrencyLimiter concurrencyLimiter = jobExecutor.getJobConcurrencyLimiter();
+
+    List<String> saturatedJobDefinitionIds = concurrencyLimiter.getSaturatedJobDefinitionIds();
     List<JobEntity> jobs = commandContext
       .getJobManager()
-      .findNextJobsToExecute(new Page(0, numJobsToAcquire));
+      .findNextJobsToExecute(new Page(0, numJobsToAcquire), saturatedJobDefinitionIds);
+
+    if (commandContext.getProcessEngineConfiguration().isJobExecutorAcquireExclusiveJobsByProcessInstance()) {
+      jobs = addExclusiveJobsOfProcessInstances(commandContext, jobs, saturatedJobDefinitionIds);
+    }
 
     Map<String, List<String>> exclusiveJobsByProcessInstance = new HashMap<String, List<String>>();
 
+    // the job executor does not execute the jobs if the acquisition is rolled back,
+    // so the slots taken in the limiter must be released then
+    List<String> countedJobIds = new ArrayList<String>();
+    registerReleaseOnRollback(commandContext, concurrencyLimiter, countedJobIds);
+
     for (JobEntity job : jobs) {
 
+      if (!concurrencyLimiter.tryAcquire(job.getId(), job.getJobDefinitionId())) {
+        // the job definition reached its limit within this acquisition
+        continue;
+      }
+      countedJobIds.add(job.getId());
+
       lockJob(job);
 
       if(job.isExclusive()) {
@@ -91,6 +112,56 @@ public class AcquireJobsCmd implements Command<AcquiredJobs>, OptimisticLockingL
     return acquiredJobs;
   }
 
+  protected void registerReleaseOnRollback(CommandContext commandContext, final JobConcurrencyLimiter concurrencyLimiter, final List<String> jobIds) {
+    commandContext
+      .getTransactionContext()
+      .addTransactionListener(TransactionState.ROLLED_BACK, new TransactionListener() {
+        public void execute(CommandContext commandContext) {
+          for (String jobId : jobIds) {
+            concurrencyLimiter.release(jobId);
+          }
+        }
+      });
+  }
+
+  /**
+   * Adds the further acquirable exclusive jobs of the process instances whose exclusive
+   * jobs were found, so that they are executed in the same batch. At most as many jobs as
+   * were requested for the acquisition are added.
+   */
+  protected List<JobEntity> addExclusiveJobsOfProcessInstances(CommandContext commandContext, List<JobEntity> jobs, List<String> excludedJobDefinitionIds) {
+    Set<String> processInstanceIds = new HashSet<String>();
+    Set<String> jobIds = new HashSet<String>();
+    for (JobEntity job : jobs) {
+      jobIds.add(job.getId());
+      if (job.isExclusive() && job.getProcessInstanceId() != null) {
+        processInstanceIds.add(job.getProcessInstanceId());
+      }
+    }
+
+    if (processInstanceIds.isEmpty()) {
+      return jobs;
+    }
+
+    List<JobEntity> exclusiveJobs = commandContext
+      .getJobManager()
+      .findNextExclusiveJobsToExecute(processInstanceIds, excludedJobDefinitionIds, new Page(0, jobs.size() + numJobsToAcquire));
+
+    List<JobEntity> result = new ArrayList<JobEntity>(jobs);
+    int addedJobs = 0;
+    for (JobEntity exclusiveJob : exclusiveJobs) {
+      if (addedJobs >= numJobsToAcquire) {
+        break;
+      }
+      if (jobIds.add(exclusiveJob.getId())) {
+        result.add(exclusiveJob);
+        addedJobs++;
+      }
+    }
+
+    return result;
+  }
+
   protected void lockJob(JobEntity job) {
     String lockOwner = jobExecutor.getLockOwner();
     job.setLockOwner(lockOwner);
@@ -113,7 +184,9 @@ public class AcquireJobsCmd implements Command<AcquiredJobs>, OptimisticLockingL
       DbEntityOperation entityOperation = (DbEntityOperation) operation;
       if(JobEntity.class.isAssignableFrom(entityOperation.getEntityType())) {
         // could not lock the job -> remove it from list of acquired jobs
-        acquiredJobs.removeJobId(entityOperation.getEntity().getId());
+        String jobId = entityOperation.getEntity().getId();
+        acquiredJobs.removeJobId(jobId);
+        jobExecutor.getJobConcurrencyLimiter().release(jobId);
       }
 
     }
@@ -293,4 +293,16 @@ public class CommandLogger extends ProcessEngineLogger {
       "043",
       "No subscriptions were found during evaluation of the conditional start events."));
   }
+
+  public BadUserRequestException exceptionDeliverSignalAsyncToSingleExecution() {
+    return new BadUserRequestException(exceptionMessage(
+      "044",
+      "Cannot deliver a signal asynchronously to a single execution."));
+  }
+
+  public BadUserRequestException exceptionDeliverSignalAsyncWithVariables() {
+    return new BadUserRequestException(exceptionMessage(
+      "045",
+      "Cannot pass variables when deliver a signal asynchronously."));
+  }
 }
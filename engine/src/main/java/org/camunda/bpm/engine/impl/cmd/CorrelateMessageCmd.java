@@ -47,6 +47,16 @@ public class CorrelateMessageCmd extends AbstractCorrelateMessageCmd implements
   }
 
   public MessageCorrelationResult execute(final CommandContext commandContext) {
+    CorrelationHandlerResult correlationResult = findCorrelation(commandContext);
+
+    return createMessageCorrelationResult(commandContext, correlationResult);
+  }
+
+  /**
+   * Resolves the single execution or process definition the message correlates to
+   * and checks that the current user is authorized to trigger it.
+   */
+  protected CorrelationHandlerResult findCorrelation(final CommandContext commandContext) {
     ensureAtLeastOneNotNull(
         "At least one of the following correlation criteria has to be present: " + "messageName, businessKey, correlationKeys, processInstanceId", messageName,
         builder.getBusinessKey(), builder.getCorrelationProcessInstanceVariables(), builder.getProcessInstanceId());
@@ -66,6 +76,6 @@ public class CorrelateMessageCmd extends AbstractCorrelateMessageCmd implements
     // check authorization
     checkAuthorization(correlationResult);
 
-    return createMessageCorrelationResult(commandContext, correlationResult);
+    return correlationResult;
   }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.MismatchingMessageCorrelationException;
+import org.camunda.bpm.engine.impl.MessageCorrelationBuilderImpl;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.runtime.CorrelationHandlerResult;
+import org.camunda.bpm.engine.runtime.MessageCorrelationResult;
+import org.camunda.bpm.engine.runtime.MessageCorrelationResultType;
+
+/**
+ * Correlates a list of messages in a single command. All correlations are
+ * resolved first, then the matched executions are triggered ordered by
+ * process instance and execution id, so that concurrent commands lock rows
+ * in the same order. Messages that start process instances are correlated last.
+ * Messages of the list have to correlate to distinct executions, since the
+ * first message consumes the event subscription the other ones would match.
+ */
+public class CorrelateMessagesCmd implements Command<List<MessageCorrelationResult>> {
+
+  protected final List<MessageCorrelationBuilderImpl> builders;
+
+  public CorrelateMessagesCmd(List<MessageCorrelationBuilderImpl> builders) {
+    this.builders = builders;
+  }
+
+  public List<MessageCorrelationResult> execute(CommandContext commandContext) {
+    ensureNotNull("messageCorrelations", builders);
+
+    List<PendingCorrelation> correlations = new ArrayList<PendingCorrelation>(builders.size());
+    Map<String, PendingCorrelation> correlationsByExecutionId = new HashMap<String, PendingCorrelation>();
+    for (int i = 0; i < builders.size(); i++) {
+      CorrelateMessageCmd command = new CorrelateMessageCmd(builders.get(i));
+      CorrelationHandlerResult handlerResult = command.findCorrelation(commandContext);
+      PendingCorrelation correlation = new PendingCorrelation(i, command, handlerResult);
+
+      ExecutionEntity execution = correlation.getExecution();
+      if (execution != null && correlationsByExecutionId.put(execution.getId(), correlation) != null) {
+        throw new MismatchingMessageCorrelationException(command.messageName, "Execution '" + execution.getId()
+            + "' is already correlated to another message of the list, correlate the messages in separate calls");
+      }
+
+      correlations.add(correlation);
+    }
+
+    List<PendingCorrelation> triggerOrder = new ArrayList<PendingCorrelation>(correlations);
+    Collections.sort(triggerOrder, TRIGGER_ORDER);
+
+    MessageCorrelationResult[] results = new MessageCorrelationResult[correlations.size()];
+    for (PendingCorrelation correlation : triggerOrder) {
+      ExecutionEntity execution = correlation.getExecution();
+      if (execution != null && commandContext.getDbEntityManager().isDeleted(execution)) {
+        // e.g. a previous message of the list has ended the process instance
+        throw new MismatchingMessageCorrelationException(correlation.command.messageName, "Execution '" + execution.getId()
+            + "' was removed by another message of the list");
+      }
+
+      results[correlation.index] = correlation.command.createMessageCorrelationResult(commandContext, correlation.handlerResult);
+    }
+
+    return Arrays.asList(results);
+  }
+
+  protected static final Comparator<PendingCorrelation> TRIGGER_ORDER = new Comparator<PendingCorrelation>() {
+    public int compare(PendingCorrelation correlation1, PendingCorrelation correlation2) {
+      ExecutionEntity execution1 = correlation1.getExecution();
+      ExecutionEntity execution2 = correlation2.getExecution();
+
+      if (execution1 == null || execution2 == null) {
+        // executions first, start messages keep their order
+        return execution1 != null ? -1 : (execution2 != null ? 1 : 0);
+      }
+
+      int result = execution1.getProcessInstanceId().compareTo(execution2.getProcessInstanceId());
+      if (result == 0) {
+        result = execution1.getId().compareTo(execution2.getId());
+      }
+      return result;
+    }
+  };
+
+  protected static class PendingCorrelation {
+
+    protected final int index;
+    protected final CorrelateMessageCmd command;
+    protected final CorrelationHandlerResult handlerResult;
+
+    public PendingCorrelation(int index, CorrelateMessageCmd command, CorrelationHandlerResult handlerResult) {
+      this.index = index;
+      this.command = command;
+      this.handlerResult = handlerResult;
+    }
+
+    public ExecutionEntity getExecution() {
+      if (MessageCorrelationResultType.Execution.equals(handlerResult.getResultType())) {
+        return handlerResult.getExecutionEntity();
+      }
+      return null;
+    }
+  }
+
+}
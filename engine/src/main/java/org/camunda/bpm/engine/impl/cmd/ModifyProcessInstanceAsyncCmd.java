@@ -36,6 +36,7 @@ import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.PropertyChange;
+import org.camunda.bpm.engine.impl.util.BatchUtil;
 
 /**
  * @author Yana Vasileva
@@ -103,7 +104,7 @@ public class ModifyProcessInstanceAsyncCmd implements Command<Batch> {
     batch.setType(batchJobHandler.getType());
     batch.setTotalJobs(1);
     batch.setBatchJobsPerSeed(processEngineConfiguration.getBatchJobsPerSeed());
-    batch.setInvocationsPerBatchJob(processEngineConfiguration.getInvocationsPerBatchJob());
+    batch.setInvocationsPerBatchJob(BatchUtil.getInvocationsPerBatchJob(batch.getType(), processEngineConfiguration));
     batch.setConfigurationBytes(batchJobHandler.writeConfiguration(configuration));
     batch.setTenantId(tenantId);
     commandContext.getBatchManager().insertBatch(batch);
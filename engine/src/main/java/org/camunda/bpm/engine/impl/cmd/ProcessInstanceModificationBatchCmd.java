@@ -93,9 +93,9 @@ public class ProcessInstanceModificationBatchCmd extends AbstractModificationCmd
     BatchEntity batch = new BatchEntity();
 
     batch.setType(batchJobHandler.getType());
-    batch.setTotalJobs(BatchUtil.calculateBatchSize(processEngineConfiguration, configuration));
+    batch.setTotalJobs(BatchUtil.calculateBatchSize(processEngineConfiguration, configuration, batch.getType()));
     batch.setBatchJobsPerSeed(processEngineConfiguration.getBatchJobsPerSeed());
-    batch.setInvocationsPerBatchJob(processEngineConfiguration.getInvocationsPerBatchJob());
+    batch.setInvocationsPerBatchJob(BatchUtil.getInvocationsPerBatchJob(batch.getType(), processEngineConfiguration));
     batch.setConfigurationBytes(batchJobHandler.writeConfiguration(configuration));
     batch.setTenantId(processDefinition.getTenantId());
     commandContext.getBatchManager().insertBatch(batch);
@@ -78,9 +78,9 @@ public class SetExternalTasksRetriesBatchCmd extends AbstractSetExternalTaskRetr
 
     BatchEntity batch = new BatchEntity();
     batch.setType(batchJobHandler.getType());
-    batch.setTotalJobs(BatchUtil.calculateBatchSize(processEngineConfiguration, configuration));
+    batch.setTotalJobs(BatchUtil.calculateBatchSize(processEngineConfiguration, configuration, batch.getType()));
     batch.setBatchJobsPerSeed(processEngineConfiguration.getBatchJobsPerSeed());
-    batch.setInvocationsPerBatchJob(processEngineConfiguration.getInvocationsPerBatchJob());
+    batch.setInvocationsPerBatchJob(BatchUtil.getInvocationsPerBatchJob(batch.getType(), processEngineConfiguration));
     batch.setConfigurationBytes(batchJobHandler.writeConfiguration(configuration));
     commandContext.getBatchManager().insertBatch(batch);
 
@@ -70,9 +70,9 @@ public class UpdateProcessInstancesSuspendStateBatchCmd extends AbstractUpdatePr
     BatchEntity batch = new BatchEntity();
 
     batch.setType(batchJobHandler.getType());
-    batch.setTotalJobs(BatchUtil.calculateBatchSize(processEngineConfiguration, (UpdateProcessInstancesSuspendStateBatchConfiguration) configuration));
+    batch.setTotalJobs(BatchUtil.calculateBatchSize(processEngineConfiguration, (UpdateProcessInstancesSuspendStateBatchConfiguration) configuration, batch.getType()));
     batch.setBatchJobsPerSeed(processEngineConfiguration.getBatchJobsPerSeed());
-    batch.setInvocationsPerBatchJob(processEngineConfiguration.getInvocationsPerBatchJob());
+    batch.setInvocationsPerBatchJob(BatchUtil.getInvocationsPerBatchJob(batch.getType(), processEngineConfiguration));
     batch.setConfigurationBytes(batchJobHandler.writeConfiguration(configuration));
     commandContext.getBatchManager().insertBatch(batch);
 
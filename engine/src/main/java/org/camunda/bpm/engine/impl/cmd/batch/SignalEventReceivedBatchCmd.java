@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd.batch;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.util.ArrayList;
+
+import org.camunda.bpm.engine.authorization.BatchPermissions;
+import org.camunda.bpm.engine.batch.Batch;
+import org.camunda.bpm.engine.impl.SignalEventReceivedBuilderImpl;
+import org.camunda.bpm.engine.impl.batch.BatchEntity;
+import org.camunda.bpm.engine.impl.batch.BatchJobHandler;
+import org.camunda.bpm.engine.impl.batch.signal.SignalEventDeliveryBatchConfiguration;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.util.BatchUtil;
+
+/**
+ * Creates a batch which delivers a signal to the signal event subscriptions with
+ * the name of the signal. The subscriptions are resolved by the seed job of the
+ * batch and the permissions for delivering the signal are checked by the batch jobs,
+ * with the authentication of the user who created the batch.
+ */
+public class SignalEventReceivedBatchCmd extends AbstractBatchCmd<Batch> {
+
+  protected final SignalEventReceivedBuilderImpl builder;
+
+  public SignalEventReceivedBatchCmd(SignalEventReceivedBuilderImpl builder) {
+    this.builder = builder;
+  }
+
+  @Override
+  public Batch execute(CommandContext commandContext) {
+    String signalName = builder.getSignalName();
+    ensureNotNull("signalName", signalName);
+
+    checkAuthorizations(commandContext, BatchPermissions.CREATE);
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+    BatchJobHandler<SignalEventDeliveryBatchConfiguration> batchJobHandler = getBatchJobHandler(processEngineConfiguration);
+
+    SignalEventDeliveryBatchConfiguration configuration = new SignalEventDeliveryBatchConfiguration(new ArrayList<String>());
+    configuration.setSignalName(signalName);
+    configuration.setTenantId(builder.getTenantId());
+    configuration.setTenantIdSet(builder.isTenantIdSet());
+    configuration.setAuthentication(commandContext.getAuthentication());
+
+    BatchEntity batch = new BatchEntity();
+    batch.setType(batchJobHandler.getType());
+    batch.setBatchJobsPerSeed(processEngineConfiguration.getBatchJobsPerSeed());
+    batch.setInvocationsPerBatchJob(BatchUtil.getInvocationsPerBatchJob(batch.getType(), processEngineConfiguration));
+    batch.setTotalJobs(estimateTotalJobs(commandContext, batch.getInvocationsPerBatchJob()));
+    batch.setConfigurationBytes(batchJobHandler.writeConfiguration(configuration));
+    commandContext.getBatchManager().insertBatch(batch);
+
+    batch.createSeedJobDefinition();
+    batch.createMonitorJobDefinition();
+    batch.createBatchJobDefinition();
+
+    batch.fireHistoricStartEvent();
+
+    batch.createSeedJob();
+
+    return batch;
+  }
+
+  /**
+   * Counts the subscriptions which exist now. The seed job corrects the total jobs
+   * of the batch when it has resolved the last subscription.
+   */
+  protected int estimateTotalJobs(CommandContext commandContext, int invocationsPerBatchJob) {
+    long eventSubscriptionCount = commandContext.getEventSubscriptionManager()
+        .findSignalEventSubscriptionCountByEventName(builder.getSignalName(), builder.getTenantId(), builder.isTenantIdSet());
+
+    if (invocationsPerBatchJob <= 0) {
+      return 0;
+    }
+
+    return (int) ((eventSubscriptionCount + invocationsPerBatchJob - 1) / invocationsPerBatchJob);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected BatchJobHandler<SignalEventDeliveryBatchConfiguration> getBatchJobHandler(ProcessEngineConfigurationImpl processEngineConfiguration) {
+    return (BatchJobHandler<SignalEventDeliveryBatchConfiguration>) processEngineConfiguration.getBatchHandlers().get(Batch.TYPE_SIGNAL_EVENT_DELIVERY);
+  }
+
+}
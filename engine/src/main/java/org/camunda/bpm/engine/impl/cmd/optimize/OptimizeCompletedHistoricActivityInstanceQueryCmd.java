@@ -25,17 +25,23 @@ import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 public class OptimizeCompletedHistoricActivityInstanceQueryCmd implements Command<List<HistoricActivityInstance>> {
 
   protected Date finishedAfter;
+  protected String finishedAfterId;
   protected Date finishedAt;
   protected int maxResults;
 
   public OptimizeCompletedHistoricActivityInstanceQueryCmd(Date finishedAfter, Date finishedAt, int maxResults) {
+    this(finishedAfter, null, finishedAt, maxResults);
+  }
+
+  public OptimizeCompletedHistoricActivityInstanceQueryCmd(Date finishedAfter, String finishedAfterId, Date finishedAt, int maxResults) {
     this.finishedAfter = finishedAfter;
+    this.finishedAfterId = finishedAfterId;
     this.finishedAt = finishedAt;
     this.maxResults = maxResults;
   }
 
   public List<HistoricActivityInstance> execute(CommandContext commandContext) {
-    return commandContext.getOptimizeManager().getCompletedHistoricActivityInstances(finishedAfter, finishedAt, maxResults);
+    return commandContext.getOptimizeManager().getCompletedHistoricActivityInstances(finishedAfter, finishedAfterId, finishedAt, maxResults);
   }
 
 }
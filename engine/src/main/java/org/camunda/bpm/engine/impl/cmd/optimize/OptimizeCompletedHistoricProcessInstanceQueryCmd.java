@@ -25,17 +25,23 @@ import java.util.List;
 public class OptimizeCompletedHistoricProcessInstanceQueryCmd implements Command<List<HistoricProcessInstance>> {
 
   protected Date finishedAfter;
+  protected String finishedAfterId;
   protected Date finishedAt;
   protected int maxResults;
 
   public OptimizeCompletedHistoricProcessInstanceQueryCmd(Date finishedAfter, Date finishedAt, int maxResults) {
+    this(finishedAfter, null, finishedAt, maxResults);
+  }
+
+  public OptimizeCompletedHistoricProcessInstanceQueryCmd(Date finishedAfter, String finishedAfterId, Date finishedAt, int maxResults) {
     this.finishedAfter = finishedAfter;
+    this.finishedAfterId = finishedAfterId;
     this.finishedAt = finishedAt;
     this.maxResults = maxResults;
   }
 
   public List<HistoricProcessInstance> execute(CommandContext commandContext) {
-    return commandContext.getOptimizeManager().getCompletedHistoricProcessInstances(finishedAfter, finishedAt, maxResults);
+    return commandContext.getOptimizeManager().getCompletedHistoricProcessInstances(finishedAfter, finishedAfterId, finishedAt, maxResults);
   }
 
 }
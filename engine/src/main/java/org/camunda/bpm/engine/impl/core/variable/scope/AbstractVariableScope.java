@@ -350,8 +350,9 @@ public abstract class AbstractVariableScope implements Serializable, VariableSco
 
     if (variableStore.containsKey(variableName)) {
       CoreVariableInstance existingInstance = variableStore.getVariable(variableName);
-      existingInstance.setValue(value);
-      invokeVariableLifecycleListenersUpdate(existingInstance, sourceActivityExecution);
+      if (updateVariableValue(existingInstance, value)) {
+        invokeVariableLifecycleListenersUpdate(existingInstance, sourceActivityExecution);
+      }
     }
     else if (variableStore.isRemoved(variableName)) {
 
@@ -371,6 +372,22 @@ public abstract class AbstractVariableScope implements Serializable, VariableSco
     }
   }
 
+  /**
+   * @return false if the update was skipped because the value is unchanged
+   */
+  protected boolean updateVariableValue(CoreVariableInstance variableInstance, TypedValue value) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+
+    if (processEngineConfiguration != null
+        && processEngineConfiguration.isSkipUnchangedVariableUpdates()
+        && variableInstance instanceof VariableInstanceEntity) {
+      return ((VariableInstanceEntity) variableInstance).setValueIfChanged(value);
+    }
+
+    variableInstance.setValue(value);
+    return true;
+  }
+
   /**
    * Checks, if Java serialization will be used and if it is allowed to be used.
    * @param variableName
@@ -724,4 +724,10 @@ public class EnginePersistenceLogger extends ProcessEngineLogger {
         ));
   }
 
+  public void cancelledDatabaseOperations(int cancelledOperations) {
+    if(isDebugEnabled()) {
+      logDebug("088", "Cancelled {} database operations of entities that were inserted and deleted within the same command", cancelledOperations);
+    }
+  }
+
 }
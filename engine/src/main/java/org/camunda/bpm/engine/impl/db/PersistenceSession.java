@@ -20,6 +20,7 @@ import java.util.List;
 import org.apache.ibatis.executor.BatchResult;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.camunda.bpm.engine.impl.interceptor.Session;
+import org.camunda.bpm.engine.query.QueryResultHandler;
 
 
 /**
@@ -34,6 +35,12 @@ public interface PersistenceSession extends Session {
 
   List<?> selectList(String statement, Object parameter);
 
+  /**
+   * Passes the results of the statement to the handler one by one
+   * instead of collecting them in a list.
+   */
+  void selectList(String statement, Object parameter, QueryResultHandler<Object> resultHandler);
+
   <T extends DbEntity> T selectById(Class<T> type, String id);
 
   Object selectOne(String statement, Object parameter);
@@ -53,6 +53,8 @@ import org.camunda.bpm.engine.impl.UserQueryImpl;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.cfg.IdGenerator;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
 import org.camunda.bpm.engine.impl.cmmn.entity.repository.CaseDefinitionQueryImpl;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.DbEntity;
@@ -74,12 +76,14 @@ import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationManager
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
 import org.camunda.bpm.engine.impl.identity.db.DbGroupQueryImpl;
 import org.camunda.bpm.engine.impl.identity.db.DbUserQueryImpl;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.Session;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorContext;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.camunda.bpm.engine.impl.util.CollectionUtil;
 import org.camunda.bpm.engine.impl.util.EnsureUtil;
 import org.camunda.bpm.engine.impl.util.ExceptionUtil;
+import org.camunda.bpm.engine.query.QueryResultHandler;
 import org.camunda.bpm.engine.repository.ResourceTypes;
 
 /**
@@ -134,6 +138,8 @@ public class DbEntityManager implements Session, EntityLoadListener {
         jobExecutorContext.setEntityCache(dbEntityCache);
       }
 
+      discardEntityCacheOnRollback(jobExecutorContext, dbEntityCache);
+
     } else {
 
       if (processEngineConfiguration != null) {
@@ -145,6 +151,26 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
   }
 
+  /**
+   * A reused entity cache must only reflect committed state. If the transaction is
+   * rolled back, the cache may contain changes which were never written to the database,
+   * so the next command of the job executor thread (e.g. the failed job listener) starts
+   * with an empty cache.
+   */
+  protected void discardEntityCacheOnRollback(final JobExecutorContext jobExecutorContext, final DbEntityCache entityCache) {
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext != null) {
+      commandContext.getTransactionContext()
+        .addTransactionListener(TransactionState.ROLLED_BACK, new TransactionListener() {
+          public void execute(CommandContext commandContext) {
+            if (jobExecutorContext.getEntityCache() == entityCache) {
+              jobExecutorContext.setEntityCache(null);
+            }
+          }
+        });
+    }
+  }
+
   // selects /////////////////////////////////////////////////
 
   public List selectList(String statement) {
@@ -184,6 +210,34 @@ public class DbEntityManager implements Session, EntityLoadListener {
     return filterLoadedObjects(loadedObjects);
   }
 
+  /**
+   * Passes the results of the statement to the handler one by one. In contrast to
+   * {@link #selectList(String, ListQueryParameterObject)}, loaded entities are not
+   * added to the entity cache, so memory use does not grow with the number of results.
+   * An entity which is already cached is handed out in its cached state, though.
+   */
+  public <T> void selectList(String statement, ListQueryParameterObject parameter, final QueryResultHandler<T> resultHandler) {
+    if(parameter.getFirstResult() == -1 || parameter.getMaxResults() == -1) {
+      return;
+    }
+    persistenceSession.selectList(statement, parameter, new QueryResultHandler<Object>() {
+      @SuppressWarnings("unchecked")
+      public void handleResult(Object result) {
+        if (result instanceof DbEntity) {
+          DbEntity loadedObject = (DbEntity) result;
+          DbEntity cachedObject = dbEntityCache.get(loadedObject.getClass(), loadedObject.getId());
+          if (cachedObject != null) {
+            result = cachedObject;
+          }
+          else if (loadedObject instanceof DbEntityLifecycleAware) {
+            ((DbEntityLifecycleAware) loadedObject).postLoad();
+          }
+        }
+        resultHandler.handleResult((T) result);
+      }
+    });
+  }
+
   public Object selectOne(String statement, Object parameter) {
     Object result = persistenceSession.selectOne(statement, parameter);
     if (result instanceof DbEntity) {
@@ -304,6 +358,13 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
     // obtain totally ordered operation list from operation manager
     List<DbOperation> operationsToFlush = dbOperationManager.calculateFlush();
+
+    int cancelledOperations = dbOperationManager.getCancelledOperations();
+    if (cancelledOperations > 0) {
+      LOG.cancelledDatabaseOperations(cancelledOperations);
+      dbOperationManager.resetCancelledOperations();
+    }
+
     if (operationsToFlush == null || operationsToFlush.size() == 0) {
       return;
     }
@@ -543,8 +604,9 @@ public class DbEntityManager implements Session, EntityLoadListener {
       cachedDbEntity.setEntityState(PERSISTENT);
 
     } else if(cachedDbEntity.getEntityState() == DELETED_TRANSIENT) {
-      // remove from cache
+      // remove from cache, neither the INSERT nor the DELETE is performed
       dbEntityCache.remove(cachedDbEntity);
+      dbOperationManager.addCancelledOperations(2);
 
     } else if(cachedDbEntity.getEntityState() == DELETED_PERSISTENT
            || cachedDbEntity.getEntityState() == DELETED_MERGED) {
@@ -604,6 +666,31 @@ public class DbEntityManager implements Session, EntityLoadListener {
     dbEntityCache.undoDelete(entity);
   }
 
+  /**
+   * Deletes a single entity by id using the given bulk statement. If the entity has been
+   * inserted within the current command and not been flushed yet, the INSERT is cancelled
+   * instead and no statement is issued at all.
+   *
+   * @param entityType the type of the entity
+   * @param statement the bulk delete statement taking the id as parameter
+   * @param id the id of the entity to delete
+   */
+  public void deleteById(Class<? extends DbEntity> entityType, String statement, String id) {
+    CachedDbEntity cachedEntity = dbEntityCache.getCachedEntity(entityType, id);
+
+    if (cachedEntity != null && cachedEntity.getEntityState() == TRANSIENT) {
+      dbEntityCache.setDeleted(cachedEntity.getEntity());
+
+    } else if (cachedEntity != null && cachedEntity.getEntityState() == DELETED_TRANSIENT) {
+      // the INSERT is already cancelled
+      dbOperationManager.addCancelledOperations(1);
+
+    } else {
+      delete(entityType, statement, id);
+
+    }
+  }
+
   public void update(Class<? extends DbEntity> entityType, String statement, Object parameter) {
     performBulkOperation(entityType, statement, parameter, UPDATE_BULK);
   }
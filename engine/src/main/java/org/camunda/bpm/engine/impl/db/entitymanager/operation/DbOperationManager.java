@@ -69,6 +69,10 @@ public class DbOperationManager {
   /** bulk modifications (DELETE, UPDATE) for which order of execution is important */
   public LinkedHashSet<DbBulkOperation> bulkOperationsInsertionOrder = new LinkedHashSet<DbBulkOperation>();
 
+  /** number of operations that cancelled each other out before being scheduled, e.g.
+   * the INSERT and DELETE of an entity that was created and removed within the same command */
+  protected int cancelledOperations = 0;
+
   public boolean addOperation(DbEntityOperation newOperation) {
     if(newOperation.getOperationType() == INSERT) {
       return getInsertsForType(newOperation.getEntityType(), true)
@@ -126,6 +130,18 @@ public class DbOperationManager {
     return bulkOperationsInsertionOrder.add(newOperation);
   }
 
+  public void addCancelledOperations(int count) {
+    cancelledOperations += count;
+  }
+
+  public int getCancelledOperations() {
+    return cancelledOperations;
+  }
+
+  public void resetCancelledOperations() {
+    cancelledOperations = 0;
+  }
+
   public List<DbOperation> calculateFlush() {
     List<DbOperation> flush = new ArrayList<DbOperation>();
     // first INSERTs
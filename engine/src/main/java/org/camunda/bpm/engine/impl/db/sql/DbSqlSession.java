@@ -36,6 +36,8 @@ import java.util.List;
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.SqlSession;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
@@ -48,6 +50,7 @@ import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbBulkOperation;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
 import org.camunda.bpm.engine.impl.util.IoUtil;
 import org.camunda.bpm.engine.impl.util.ReflectUtil;
+import org.camunda.bpm.engine.query.QueryResultHandler;
 
 
 /**
@@ -101,6 +104,17 @@ public class DbSqlSession extends AbstractPersistenceSession {
     return resultList;
   }
 
+  public void selectList(String statement, Object parameter, final QueryResultHandler<Object> resultHandler) {
+    statement = dbSqlSessionFactory.mapStatement(statement);
+    sqlSession.select(statement, parameter, new ResultHandler() {
+      public void handleResult(ResultContext context) {
+        // the entity load listeners are not notified, so that the
+        // results are not registered in the entity cache
+        resultHandler.handleResult(context.getResultObject());
+      }
+    });
+  }
+
   @SuppressWarnings("unchecked")
   public <T extends DbEntity> T selectById(Class<T> type, String id) {
     String selectStatement = dbSqlSessionFactory.getSelectStatement(type);
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.el;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.camunda.bpm.engine.impl.juel.AstMethod;
+import org.camunda.bpm.engine.impl.juel.AstProperty;
+import org.camunda.bpm.engine.impl.juel.Builder;
+import org.camunda.bpm.engine.impl.juel.IdentifierNode;
+import org.camunda.bpm.engine.impl.juel.Node;
+import org.camunda.bpm.engine.impl.juel.Tree;
+import org.camunda.bpm.engine.impl.juel.TreeBuilderException;
+
+/**
+ * Determines the names of the variables an UEL expression reads.
+ *
+ * <p>The names can only be determined for expressions which consist of plain
+ * identifiers, literals and operators, e.g. <code>${a > 5 && b == 'x'}</code>.
+ * Property access, method invocations and functions may read state which is
+ * not backed by a variable (like a bean or the execution itself).</p>
+ */
+public class ExpressionVariableNameCollector {
+
+  protected static final List<String> NON_VARIABLE_IDENTIFIERS = Arrays.asList(
+      VariableScopeElResolver.EXECUTION_KEY,
+      VariableScopeElResolver.CASE_EXECUTION_KEY,
+      VariableScopeElResolver.TASK_KEY,
+      VariableScopeElResolver.LOGGED_IN_USER_KEY);
+
+  protected static final Builder TREE_BUILDER = new Builder(Builder.Feature.METHOD_INVOCATIONS);
+
+  /**
+   * @return the names of the variables the expression reads or <code>null</code>
+   * if they cannot be determined
+   */
+  public static Set<String> collectVariableNames(String expressionText) {
+    Tree tree;
+    try {
+      tree = TREE_BUILDER.build(expressionText);
+    } catch (TreeBuilderException e) {
+      return null;
+    }
+
+    if (tree.getFunctionNodes().iterator().hasNext() || !isPlainNode(tree.getRoot())) {
+      return null;
+    }
+
+    Set<String> variableNames = new HashSet<String>();
+    for (IdentifierNode identifier : tree.getIdentifierNodes()) {
+      String name = identifier.getName();
+      if (NON_VARIABLE_IDENTIFIERS.contains(name)) {
+        return null;
+      }
+      variableNames.add(name);
+    }
+
+    return variableNames;
+  }
+
+  protected static boolean isPlainNode(Node node) {
+    if (node instanceof AstProperty || node instanceof AstMethod) {
+      return false;
+    }
+
+    for (int i = 0; i < node.getCardinality(); i++) {
+      Node child = node.getChild(i);
+      if (child != null && !isPlainNode(child)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
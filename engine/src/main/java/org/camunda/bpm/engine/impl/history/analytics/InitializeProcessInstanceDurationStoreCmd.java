@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history.analytics;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * Adds one page of finished historic process instances, ordered by id, to a
+ * {@link ProcessInstanceDurationStore}. The first page clears the store.
+ * Returns the id of the last added instance to continue with, or
+ * <code>null</code> if all instances have been added. Each page is executed
+ * as a separate command so that the rebuild does not hold a single
+ * transaction and entity cache over the whole history table.
+ */
+public class InitializeProcessInstanceDurationStoreCmd implements Command<String> {
+
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
+  protected ProcessInstanceDurationStore store;
+  protected String processInstanceIdAfter;
+  protected int pageSize;
+
+  public InitializeProcessInstanceDurationStoreCmd(ProcessInstanceDurationStore store, String processInstanceIdAfter) {
+    this(store, processInstanceIdAfter, DEFAULT_PAGE_SIZE);
+  }
+
+  public InitializeProcessInstanceDurationStoreCmd(ProcessInstanceDurationStore store, String processInstanceIdAfter, int pageSize) {
+    this.store = store;
+    this.processInstanceIdAfter = processInstanceIdAfter;
+    this.pageSize = pageSize;
+  }
+
+  public String execute(CommandContext commandContext) {
+    if (processInstanceIdAfter == null) {
+      store.clear();
+    }
+
+    HistoricProcessInstanceQueryImpl query = new HistoricProcessInstanceQueryImpl();
+    query.finished();
+    query.orderByProcessInstanceId().asc();
+    if (processInstanceIdAfter != null) {
+      query.processInstanceIdAfter(processInstanceIdAfter);
+    }
+
+    List<HistoricProcessInstance> processInstances = query.executeList(commandContext, new Page(0, pageSize));
+    for (HistoricProcessInstance processInstance : processInstances) {
+      if (processInstance.getStartTime() != null && processInstance.getDurationInMillis() != null) {
+        store.add(processInstance.getProcessDefinitionId(),
+            processInstance.getProcessDefinitionKey(),
+            processInstance.getTenantId(),
+            processInstance.getStartTime(),
+            processInstance.getDurationInMillis());
+      }
+    }
+
+    if (processInstances.size() < pageSize) {
+      return null;
+    }
+    else {
+      return processInstances.get(processInstances.size() - 1).getId();
+    }
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history.analytics;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoryEvent;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * {@link HistoryEventHandler} which adds the durations of finished process
+ * instances to a {@link ProcessInstanceDurationStore} once the transaction
+ * which finished them is committed.
+ */
+public class ProcessInstanceDurationHistoryEventHandler implements HistoryEventHandler {
+
+  protected ProcessInstanceDurationStore store;
+
+  public ProcessInstanceDurationHistoryEventHandler(ProcessInstanceDurationStore store) {
+    this.store = store;
+  }
+
+  public void handleEvent(HistoryEvent historyEvent) {
+    if (historyEvent instanceof HistoricProcessInstanceEventEntity
+        && historyEvent.isEventOfType(HistoryEventTypes.PROCESS_INSTANCE_END)) {
+
+      final HistoricProcessInstanceEventEntity processInstanceEvent = (HistoricProcessInstanceEventEntity) historyEvent;
+      if (processInstanceEvent.getStartTime() == null || processInstanceEvent.getDurationInMillis() == null) {
+        return;
+      }
+
+      CommandContext commandContext = Context.getCommandContext();
+      if (commandContext != null) {
+        commandContext.getTransactionContext()
+          .addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+            public void execute(CommandContext commandContext) {
+              addToStore(processInstanceEvent);
+            }
+          });
+      }
+      else {
+        addToStore(processInstanceEvent);
+      }
+    }
+  }
+
+  public void handleEvents(List<HistoryEvent> historyEvents) {
+    for (HistoryEvent historyEvent : historyEvents) {
+      handleEvent(historyEvent);
+    }
+  }
+
+  protected void addToStore(HistoricProcessInstanceEventEntity processInstanceEvent) {
+    store.add(processInstanceEvent.getProcessDefinitionId(),
+        processInstanceEvent.getProcessDefinitionKey(),
+        processInstanceEvent.getTenantId(),
+        processInstanceEvent.getStartTime(),
+        processInstanceEvent.getDurationInMillis());
+  }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.camunda.bpm.engine.history.DurationReportResult;
+import org.camunda.bpm.engine.impl.HistoricProcessInstanceReportImpl;
+import org.camunda.bpm.engine.impl.db.TenantCheck;
+import org.camunda.bpm.engine.impl.persistence.entity.DurationReportResultEntity;
+import org.camunda.bpm.engine.query.PeriodUnit;
+
+/**
+ * <p>In-memory aggregate of the durations of finished process instances which
+ * can answer a {@link HistoricProcessInstanceReportImpl duration report}
+ * without querying the history tables.</p>
+ *
+ * <p>For every process definition the store keeps one column per aggregate
+ * (count, sum, minimum and maximum duration), indexed by the day the process
+ * instances were started on. A report is answered by folding the days of the
+ * matching process definitions into the requested periods. Since instances are
+ * aggregated per day, a report can only be answered if its
+ * <code>startedAfter</code> and <code>startedBefore</code> bounds are aligned to
+ * day boundaries (i.e. start resp. end of a day); otherwise
+ * {@link #selectDurationReport(HistoricProcessInstanceReportImpl)} returns
+ * <code>null</code> and the report has to be executed against the database.</p>
+ *
+ * <p>The store only reflects the process instances which are present when the
+ * process engine is built and the ones finished by this process engine afterwards.
+ * Deleted historic process instances (e.g. by the history cleanup) are not removed
+ * from it.</p>
+ */
+public class ProcessInstanceDurationStore {
+
+  protected final ConcurrentMap<String, DurationSegment> segments = new ConcurrentHashMap<String, DurationSegment>();
+
+  public void add(String processDefinitionId, String processDefinitionKey, String tenantId, Date startTime, long duration) {
+    DurationSegment segment = segments.get(processDefinitionId);
+    if (segment == null) {
+      segment = new DurationSegment(processDefinitionKey, tenantId);
+      DurationSegment existingSegment = segments.putIfAbsent(processDefinitionId, segment);
+      if (existingSegment != null) {
+        segment = existingSegment;
+      }
+    }
+
+    segment.add(toDay(startTime), duration);
+  }
+
+  public void clear() {
+    segments.clear();
+  }
+
+  /**
+   * @return the results of the report or <code>null</code> if the report
+   * cannot be answered by this store
+   */
+  public List<DurationReportResult> selectDurationReport(HistoricProcessInstanceReportImpl report) {
+    int fromDay = Integer.MIN_VALUE;
+    int toDay = Integer.MAX_VALUE;
+
+    if (report.getStartedAfter() != null) {
+      Calendar calendar = toCalendar(report.getStartedAfter());
+      if (!isStartOfDay(calendar)) {
+        return null;
+      }
+      fromDay = toDay(calendar);
+    }
+
+    if (report.getStartedBefore() != null) {
+      Calendar calendar = toCalendar(report.getStartedBefore());
+      if (!isEndOfDay(calendar)) {
+        return null;
+      }
+      toDay = toDay(calendar);
+    }
+
+    PeriodUnit periodUnit = PeriodUnit.valueOf(report.getReportPeriodUnitName());
+    PeriodAggregate[] periods = new PeriodAggregate[13];
+
+    for (Map.Entry<String, DurationSegment> entry : segments.entrySet()) {
+      DurationSegment segment = entry.getValue();
+      if (matches(report, entry.getKey(), segment)) {
+        segment.aggregate(fromDay, toDay, periodUnit, periods);
+      }
+    }
+
+    List<DurationReportResult> results = new ArrayList<DurationReportResult>();
+    for (int period = 1; period < periods.length; period++) {
+      PeriodAggregate aggregate = periods[period];
+      if (aggregate != null) {
+        DurationReportResultEntity result = new DurationReportResultEntity();
+        result.setPeriod(period);
+        result.setPeriodUnit(periodUnit.name());
+        result.setMinimum(aggregate.minimum);
+        result.setMaximum(aggregate.maximum);
+        result.setAverage(aggregate.sum / aggregate.count);
+        results.add(result);
+      }
+    }
+
+    return results;
+  }
+
+  protected boolean matches(HistoricProcessInstanceReportImpl report, String processDefinitionId, DurationSegment segment) {
+    String[] processDefinitionIds = report.getProcessDefinitionIdIn();
+    if (processDefinitionIds != null && processDefinitionIds.length > 0
+        && !Arrays.asList(processDefinitionIds).contains(processDefinitionId)) {
+      return false;
+    }
+
+    String[] processDefinitionKeys = report.getProcessDefinitionKeyIn();
+    if (processDefinitionKeys != null && processDefinitionKeys.length > 0
+        && !Arrays.asList(processDefinitionKeys).contains(segment.processDefinitionKey)) {
+      return false;
+    }
+
+    TenantCheck tenantCheck = report.getTenantCheck();
+    if (tenantCheck.isTenantCheckEnabled() && segment.tenantId != null) {
+      List<String> authTenantIds = tenantCheck.getAuthTenantIds();
+      return authTenantIds != null && authTenantIds.contains(segment.tenantId);
+    }
+
+    return true;
+  }
+
+  protected static Calendar toCalendar(Date date) {
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTime(date);
+    return calendar;
+  }
+
+  protected static int toDay(Date date) {
+    return toDay(toCalendar(date));
+  }
+
+  /**
+   * @return the day encoded as <code>yyyyMMdd</code>
+   */
+  protected static int toDay(Calendar calendar) {
+    return calendar.get(Calendar.YEAR) * 10000
+        + (calendar.get(Calendar.MONTH) + 1) * 100
+        + calendar.get(Calendar.DAY_OF_MONTH);
+  }
+
+  protected static boolean isStartOfDay(Calendar calendar) {
+    return calendar.get(Calendar.HOUR_OF_DAY) == 0
+        && calendar.get(Calendar.MINUTE) == 0
+        && calendar.get(Calendar.SECOND) == 0
+        && calendar.get(Calendar.MILLISECOND) == 0;
+  }
+
+  protected static boolean isEndOfDay(Calendar calendar) {
+    return calendar.get(Calendar.HOUR_OF_DAY) == 23
+        && calendar.get(Calendar.MINUTE) == 59
+        && calendar.get(Calendar.SECOND) == 59
+        && calendar.get(Calendar.MILLISECOND) == 999;
+  }
+
+  protected static int toPeriod(int day, PeriodUnit periodUnit) {
+    int month = (day / 100) % 100;
+    if (periodUnit == PeriodUnit.QUARTER) {
+      return (month - 1) / 3 + 1;
+    }
+    else {
+      return month;
+    }
+  }
+
+  /**
+   * The durations of the finished instances of one process definition,
+   * stored as columns that are sorted by day.
+   */
+  protected static class DurationSegment {
+
+    protected final String processDefinitionKey;
+    protected final String tenantId;
+
+    protected int size = 0;
+    protected int[] days = new int[16];
+    protected long[] counts = new long[16];
+    protected long[] sums = new long[16];
+    protected long[] minimums = new long[16];
+    protected long[] maximums = new long[16];
+
+    public DurationSegment(String processDefinitionKey, String tenantId) {
+      this.processDefinitionKey = processDefinitionKey;
+      this.tenantId = tenantId;
+    }
+
+    public synchronized void add(int day, long duration) {
+      int index = Arrays.binarySearch(days, 0, size, day);
+
+      if (index >= 0) {
+        counts[index]++;
+        sums[index] += duration;
+        minimums[index] = Math.min(minimums[index], duration);
+        maximums[index] = Math.max(maximums[index], duration);
+      }
+      else {
+        insert(-index - 1, day, duration);
+      }
+    }
+
+    protected void insert(int index, int day, long duration) {
+      if (size == days.length) {
+        int capacity = size * 2;
+        days = Arrays.copyOf(days, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        sums = Arrays.copyOf(sums, capacity);
+        minimums = Arrays.copyOf(minimums, capacity);
+        maximums = Arrays.copyOf(maximums, capacity);
+      }
+
+      int tail = size - index;
+      System.arraycopy(days, index, days, index + 1, tail);
+      System.arraycopy(counts, index, counts, index + 1, tail);
+      System.arraycopy(sums, index, sums, index + 1, tail);
+      System.arraycopy(minimums, index, minimums, index + 1, tail);
+      System.arraycopy(maximums, index, maximums, index + 1, tail);
+
+      days[index] = day;
+      counts[index] = 1;
+      sums[index] = duration;
+      minimums[index] = duration;
+      maximums[index] = duration;
+      size++;
+    }
+
+    public synchronized void aggregate(int fromDay, int toDay, PeriodUnit periodUnit, PeriodAggregate[] periods) {
+      int index = Arrays.binarySearch(days, 0, size, fromDay);
+      if (index < 0) {
+        index = -index - 1;
+      }
+
+      for (; index < size && days[index] <= toDay; index++) {
+        int period = toPeriod(days[index], periodUnit);
+
+        PeriodAggregate aggregate = periods[period];
+        if (aggregate == null) {
+          aggregate = new PeriodAggregate();
+          periods[period] = aggregate;
+        }
+
+        aggregate.add(counts[index], sums[index], minimums[index], maximums[index]);
+      }
+    }
+  }
+
+  protected static class PeriodAggregate {
+
+    protected long count = 0;
+    protected long sum = 0;
+    protected long minimum = Long.MAX_VALUE;
+    protected long maximum = Long.MIN_VALUE;
+
+    public void add(long count, long sum, long minimum, long maximum) {
+      this.count += count;
+      this.sum += sum;
+      this.minimum = Math.min(this.minimum, minimum);
+      this.maximum = Math.max(this.maximum, maximum);
+    }
+  }
+
+}
@@ -71,6 +71,8 @@ public class ExecuteJobsRunnable implements Runnable {
             }
 
         }
+
+        jobExecutor.getJobConcurrencyLimiter().release(nextJobId);
       }
 
       // if there were only exclusive jobs then the job executor
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Limits the number of jobs of a job definition which are acquired by a
+ * {@link JobExecutor} at the same time. A job counts against the limit of its
+ * job definition from its acquisition until the job executor has executed
+ * (or unlocked) it. This way, a large number of jobs of a single job definition
+ * (e.g. the jobs of a batch) cannot occupy all threads of the job executor.</p>
+ *
+ * <p>Limits are applied per job executor, i.e. in a cluster the number of
+ * concurrently executed jobs of a job definition is bounded by the limit times
+ * the number of nodes.</p>
+ */
+public class JobConcurrencyLimiter {
+
+  /** the limit of job definitions without an explicit limit; not positive means unlimited */
+  protected volatile int defaultMaxConcurrentJobs = 0;
+  protected Map<String, Integer> maxConcurrentJobsByJobDefinition = new ConcurrentHashMap<String, Integer>();
+
+  protected ConcurrentMap<String, AtomicInteger> acquiredJobsByJobDefinition = new ConcurrentHashMap<String, AtomicInteger>();
+  protected ConcurrentMap<String, String> jobDefinitionIdsByJobId = new ConcurrentHashMap<String, String>();
+
+  /**
+   * Registers the acquisition of a job if the limit of its job definition
+   * is not exceeded yet.
+   *
+   * @return true if the job may be acquired
+   */
+  public boolean tryAcquire(String jobId, String jobDefinitionId) {
+    if (jobDefinitionId == null) {
+      return true;
+    }
+
+    int limit = getMaxConcurrentJobs(jobDefinitionId);
+    if (limit <= 0) {
+      return true;
+    }
+
+    AtomicInteger acquiredJobs = getAcquiredJobsCounter(jobDefinitionId);
+    while (true) {
+      int current = acquiredJobs.get();
+      if (current >= limit) {
+        return false;
+      }
+      if (acquiredJobs.compareAndSet(current, current + 1)) {
+        jobDefinitionIdsByJobId.put(jobId, jobDefinitionId);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Releases the slot taken by the job, if any. Must be called once the job was
+   * executed or could not be acquired after all.
+   */
+  public void release(String jobId) {
+    String jobDefinitionId = jobDefinitionIdsByJobId.remove(jobId);
+    if (jobDefinitionId != null) {
+      AtomicInteger acquiredJobs = acquiredJobsByJobDefinition.get(jobDefinitionId);
+      if (acquiredJobs != null) {
+        acquiredJobs.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * @return the ids of the job definitions which reached their limit,
+   * i.e. whose jobs must not be acquired currently
+   */
+  public List<String> getSaturatedJobDefinitionIds() {
+    List<String> jobDefinitionIds = new ArrayList<String>();
+    for (Map.Entry<String, AtomicInteger> entry : acquiredJobsByJobDefinition.entrySet()) {
+      int limit = getMaxConcurrentJobs(entry.getKey());
+      if (limit > 0 && entry.getValue().get() >= limit) {
+        jobDefinitionIds.add(entry.getKey());
+      }
+    }
+    return jobDefinitionIds;
+  }
+
+  public int getAcquiredJobs(String jobDefinitionId) {
+    AtomicInteger acquiredJobs = acquiredJobsByJobDefinition.get(jobDefinitionId);
+    return acquiredJobs != null ? acquiredJobs.get() : 0;
+  }
+
+  public void reset() {
+    jobDefinitionIdsByJobId.clear();
+    acquiredJobsByJobDefinition.clear();
+  }
+
+  protected AtomicInteger getAcquiredJobsCounter(String jobDefinitionId) {
+    AtomicInteger acquiredJobs = acquiredJobsByJobDefinition.get(jobDefinitionId);
+    if (acquiredJobs == null) {
+      acquiredJobs = new AtomicInteger();
+      AtomicInteger existingCounter = acquiredJobsByJobDefinition.putIfAbsent(jobDefinitionId, acquiredJobs);
+      if (existingCounter != null) {
+        acquiredJobs = existingCounter;
+      }
+    }
+    return acquiredJobs;
+  }
+
+  public int getMaxConcurrentJobs(String jobDefinitionId) {
+    Integer limit = maxConcurrentJobsByJobDefinition.get(jobDefinitionId);
+    return limit != null ? limit : defaultMaxConcurrentJobs;
+  }
+
+  /**
+   * Sets the limit for the given job definition, overriding the default limit.
+   * A value that is not positive removes the limit for the job definition.
+   */
+  public void setMaxConcurrentJobs(String jobDefinitionId, int maxConcurrentJobs) {
+    maxConcurrentJobsByJobDefinition.put(jobDefinitionId, maxConcurrentJobs);
+  }
+
+  public void removeMaxConcurrentJobs(String jobDefinitionId) {
+    maxConcurrentJobsByJobDefinition.remove(jobDefinitionId);
+  }
+
+  public int getDefaultMaxConcurrentJobs() {
+    return defaultMaxConcurrentJobs;
+  }
+
+  public void setDefaultMaxConcurrentJobs(int defaultMaxConcurrentJobs) {
+    this.defaultMaxConcurrentJobs = defaultMaxConcurrentJobs;
+  }
+
+}
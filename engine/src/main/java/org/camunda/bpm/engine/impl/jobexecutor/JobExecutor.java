@@ -48,6 +48,7 @@ public abstract class JobExecutor {
   protected AcquireJobsCommandFactory acquireJobsCmdFactory;
   protected AcquireJobsRunnable acquireJobsRunnable;
   protected RejectedJobsHandler rejectedJobsHandler;
+  protected JobConcurrencyLimiter jobConcurrencyLimiter = new JobConcurrencyLimiter();
   protected Thread jobAcquisitionThread;
 
   protected boolean isAutoActivate = false;
@@ -102,6 +103,7 @@ public abstract class JobExecutor {
   protected void ensureCleanup() {
     acquireJobsCmdFactory = null;
     acquireJobsRunnable = null;
+    jobConcurrencyLimiter.reset();
   }
 
   public void jobWasAdded() {
@@ -329,6 +331,14 @@ public abstract class JobExecutor {
     this.rejectedJobsHandler = rejectedJobsHandler;
   }
 
+  public JobConcurrencyLimiter getJobConcurrencyLimiter() {
+    return jobConcurrencyLimiter;
+  }
+
+  public void setJobConcurrencyLimiter(JobConcurrencyLimiter jobConcurrencyLimiter) {
+    this.jobConcurrencyLimiter = jobConcurrencyLimiter;
+  }
+
   protected void startJobAcquisitionThread() {
 		if (jobAcquisitionThread == null) {
 			jobAcquisitionThread = new Thread(acquireJobsRunnable, getName());
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.management;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * <p>Engine-wide cache for the results of statistics queries. Statistics are
+ * aggregated over the whole runtime state of a process definition, which makes
+ * them expensive to compute while being requested repeatedly by dashboards.</p>
+ *
+ * <p>Results are kept for a fixed amount of time, i.e. a cached result may not
+ * reflect changes made within that time. When the cache is full, the least
+ * recently used result is evicted.</p>
+ */
+public class StatisticsCache {
+
+  protected final long timeToLive;
+  protected final Map<String, CacheEntry> entries;
+
+  /**
+   * @param capacity the maximum number of cached results
+   * @param timeToLive the time in milliseconds for which a result is valid
+   */
+  public StatisticsCache(final int capacity, long timeToLive) {
+    this.timeToLive = timeToLive;
+    this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+
+      private static final long serialVersionUID = 1L;
+
+      protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * @return the cached result or null if there is no valid result for the key
+   */
+  public Object get(String key) {
+    synchronized (entries) {
+      CacheEntry entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      else if (entry.expirationTime <= now()) {
+        entries.remove(key);
+        return null;
+      }
+      else {
+        return entry.value;
+      }
+    }
+  }
+
+  public void put(String key, Object value) {
+    CacheEntry entry = new CacheEntry(value, now() + timeToLive);
+    synchronized (entries) {
+      entries.put(key, entry);
+    }
+  }
+
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  public long getTimeToLive() {
+    return timeToLive;
+  }
+
+  protected long now() {
+    return ClockUtil.getCurrentTime().getTime();
+  }
+
+  protected static class CacheEntry {
+
+    protected final Object value;
+    protected final long expirationTime;
+
+    public CacheEntry(Object value, long expirationTime) {
+      this.value = value;
+      this.expirationTime = expirationTime;
+    }
+  }
+
+}
@@ -43,12 +43,14 @@ public class OptimizeManager extends AbstractManager {
 
   @SuppressWarnings("unchecked")
   public List<HistoricActivityInstance> getCompletedHistoricActivityInstances(Date finishedAfter,
+                                                                              String finishedAfterId,
                                                                               Date finishedAt,
                                                                               int maxResults) {
     checkIsAuthorizedToReadHistoryOfProcessDefinitions();
 
     Map<String, Object> params = new HashMap<>();
     params.put("finishedAfter", finishedAfter);
+    params.put("finishedAfterId", finishedAfterId);
     params.put("finishedAt", finishedAt);
     params.put("maxResults", maxResults);
 
@@ -122,12 +124,14 @@ public class OptimizeManager extends AbstractManager {
 
   @SuppressWarnings("unchecked")
   public List<HistoricProcessInstance> getCompletedHistoricProcessInstances(Date finishedAfter,
+                                                                            String finishedAfterId,
                                                                             Date finishedAt,
                                                                             int maxResults) {
     checkIsAuthorizedToReadHistoryOfProcessDefinitions();
 
     Map<String, Object> params = new HashMap<>();
     params.put("finishedAfter", finishedAfter);
+    params.put("finishedAfterId", finishedAfterId);
     params.put("finishedAt", finishedAt);
     params.put("maxResults", maxResults);
 
@@ -89,6 +89,7 @@ import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
 import org.camunda.bpm.engine.impl.db.PermissionCheck;
 import org.camunda.bpm.engine.impl.db.PermissionCheckBuilder;
+import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionQueryImpl;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionRequirementsDefinitionQueryImpl;
 import org.camunda.bpm.engine.impl.identity.Authentication;
@@ -466,6 +467,30 @@ public class AuthorizationManager extends AbstractManager {
 
   }
 
+  /**
+   * Deletes the authorizations of a resource that was created within the current
+   * command and has not been flushed yet. Such authorizations can only exist in the
+   * entity cache, so they are removed from the cache instead of issuing a bulk delete.
+   */
+  public void deleteTransientAuthorizationsByResourceId(Resource resource, String resourceId) {
+
+    if(resourceId == null) {
+      throw new IllegalArgumentException("Resource id cannot be null");
+    }
+
+    if(isAuthorizationEnabled()) {
+      DbEntityManager dbEntityManager = getDbEntityManager();
+      for (AuthorizationEntity authorization : dbEntityManager.getCachedEntitiesByType(AuthorizationEntity.class)) {
+        if (authorization.getResourceType() == resource.resourceType()
+            && resourceId.equals(authorization.getResourceId())
+            && !dbEntityManager.isDeleted(authorization)) {
+          dbEntityManager.delete(authorization);
+        }
+      }
+    }
+
+  }
+
   public void deleteAuthorizationsByResourceIdAndUserId(Resource resource, String resourceId, String userId) {
 
     if(resourceId == null) {
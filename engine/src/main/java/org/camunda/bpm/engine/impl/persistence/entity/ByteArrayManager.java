@@ -36,7 +36,7 @@ public class ByteArrayManager extends AbstractManager {
    * optimistic locking!.
    */
   public void deleteByteArrayById(String byteArrayEntityId) {
-    getDbEntityManager().delete(ByteArrayEntity.class, "deleteByteArrayNoRevisionCheck", byteArrayEntityId);
+    getDbEntityManager().deleteById(ByteArrayEntity.class, "deleteByteArrayNoRevisionCheck", byteArrayEntityId);
   }
 
   public void insertByteArray(ByteArrayEntity arr) {
@@ -145,6 +145,38 @@ public class EventSubscriptionManager extends AbstractManager {
     return new ArrayList<EventSubscriptionEntity>(eventSubscriptions);
   }
 
+  /**
+   * Find the ids of the signal event subscriptions with the given event name in the
+   * order of their ids, starting after the given id. If the tenant-id is set then only
+   * the subscriptions of the given tenant are returned. In contrast to
+   * {@link #findSignalEventSubscriptionsByEventName(String)}, subscriptions created in
+   * the current command are not included.
+   */
+  @SuppressWarnings("unchecked")
+  public List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId, boolean isTenantIdSet,
+      String idAfter, int maxResults) {
+    Map<String, Object> parameter = createSignalEventSubscriptionParameter(eventName, tenantId, isTenantIdSet);
+    parameter.put("idAfter", idAfter);
+
+    ListQueryParameterObject query = configureParameterizedQuery(parameter);
+    query.setMaxResults(maxResults);
+
+    return getDbEntityManager().selectList("selectSignalEventSubscriptionIdsByEventName", query);
+  }
+
+  public long findSignalEventSubscriptionCountByEventName(String eventName, String tenantId, boolean isTenantIdSet) {
+    Map<String, Object> parameter = createSignalEventSubscriptionParameter(eventName, tenantId, isTenantIdSet);
+    return (Long) getDbEntityManager().selectOne("selectSignalEventSubscriptionCountByEventName", configureParameterizedQuery(parameter));
+  }
+
+  protected Map<String, Object> createSignalEventSubscriptionParameter(String eventName, String tenantId, boolean isTenantIdSet) {
+    Map<String, Object> parameter = new HashMap<String, Object>();
+    parameter.put("eventName", eventName);
+    parameter.put("tenantId", tenantId);
+    parameter.put("isTenantIdSet", isTenantIdSet);
+    return parameter;
+  }
+
   protected boolean hasTenantId(EventSubscriptionEntity entity, String tenantId) {
     if (tenantId == null) {
       return entity.getTenantId() == null;
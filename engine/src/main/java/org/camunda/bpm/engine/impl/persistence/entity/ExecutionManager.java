@@ -29,6 +29,7 @@ import org.camunda.bpm.engine.impl.ProcessInstanceQueryImpl;
 import org.camunda.bpm.engine.impl.cfg.auth.ResourceAuthorizationProvider;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
+import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
 import org.camunda.bpm.engine.runtime.Execution;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
@@ -47,9 +48,19 @@ public class ExecutionManager extends AbstractManager {
   }
 
   public void deleteExecution(ExecutionEntity execution) {
-    getDbEntityManager().delete(execution);
+    DbEntityManager dbEntityManager = getDbEntityManager();
+    // a process instance that starts and ends within the same command
+    // (i.e. without reaching a wait state) is never flushed
+    boolean isTransient = dbEntityManager.getDbEntityCache().isTransient(execution);
+
+    dbEntityManager.delete(execution);
     if (execution.isProcessInstanceExecution()) {
-      deleteAuthorizations(Resources.PROCESS_INSTANCE, execution.getProcessInstanceId());
+      if (isTransient) {
+        getAuthorizationManager().deleteTransientAuthorizationsByResourceId(Resources.PROCESS_INSTANCE, execution.getProcessInstanceId());
+      }
+      else {
+        deleteAuthorizations(Resources.PROCESS_INSTANCE, execution.getProcessInstanceId());
+      }
     }
   }
 
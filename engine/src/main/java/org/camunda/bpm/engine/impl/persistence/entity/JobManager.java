@@ -164,8 +164,31 @@ public class JobManager extends AbstractManager {
     return (JobEntity) getDbEntityManager().selectOne("selectJob", jobId);
   }
 
-  @SuppressWarnings("unchecked")
   public List<JobEntity> findNextJobsToExecute(Page page) {
+    return findNextJobsToExecute(page, null);
+  }
+
+  /**
+   * @param excludedJobDefinitionIds the ids of job definitions whose jobs must not be returned
+   */
+  @SuppressWarnings("unchecked")
+  public List<JobEntity> findNextJobsToExecute(Page page, Collection<String> excludedJobDefinitionIds) {
+    Map<String, Object> params = createNextJobsToExecuteParameters(excludedJobDefinitionIds);
+    return getDbEntityManager().selectList("selectNextJobsToExecute", params, page);
+  }
+
+  /**
+   * Selects the acquirable exclusive jobs of the given process instances, ordered
+   * like the jobs returned by {@link #findNextJobsToExecute(Page, Collection)}.
+   */
+  @SuppressWarnings("unchecked")
+  public List<JobEntity> findNextExclusiveJobsToExecute(Collection<String> processInstanceIds, Collection<String> excludedJobDefinitionIds, Page page) {
+    Map<String, Object> params = createNextJobsToExecuteParameters(excludedJobDefinitionIds);
+    params.put("exclusiveJobsProcessInstanceIds", processInstanceIds);
+    return getDbEntityManager().selectList("selectNextJobsToExecute", params, page);
+  }
+
+  protected Map<String, Object> createNextJobsToExecuteParameters(Collection<String> excludedJobDefinitionIds) {
     Map<String,Object> params = new HashMap<String, Object>();
     Date now = ClockUtil.getCurrentTime();
     params.put("now", now);
@@ -189,11 +212,15 @@ public class JobManager extends AbstractManager {
       orderingProperties.add(JOB_DUEDATE_ORDERING_PROPERTY);
     }
 
+    if (excludedJobDefinitionIds != null && !excludedJobDefinitionIds.isEmpty()) {
+      params.put("excludedJobDefinitionIds", excludedJobDefinitionIds);
+    }
+
     params.put("orderingProperties", orderingProperties);
     // don't apply default sorting
     params.put("applyOrdering", !orderingProperties.isEmpty());
 
-    return getDbEntityManager().selectList("selectNextJobsToExecute", params, page);
+    return params;
   }
 
   @SuppressWarnings("unchecked")
@@ -19,6 +19,8 @@ import java.util.List;
 
 import org.camunda.bpm.engine.history.DurationReportResult;
 import org.camunda.bpm.engine.impl.HistoricProcessInstanceReportImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.history.analytics.ProcessInstanceDurationStore;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
 
 /**
@@ -30,6 +32,15 @@ public class ReportManager extends AbstractManager {
   @SuppressWarnings("unchecked")
   public List<DurationReportResult> selectHistoricProcessInstanceDurationReport(HistoricProcessInstanceReportImpl query) {
     configureQuery(query);
+
+    ProcessInstanceDurationStore durationStore = Context.getProcessEngineConfiguration().getProcessInstanceDurationStore();
+    if (durationStore != null) {
+      List<DurationReportResult> results = durationStore.selectDurationReport(query);
+      if (results != null) {
+        return results;
+      }
+    }
+
     return getDbEntityManager().selectListWithRawParameter("selectHistoricProcessInstanceDurationReport", query, 0, Integer.MAX_VALUE);
   }
 
@@ -22,7 +22,11 @@ import org.camunda.bpm.engine.impl.DeploymentStatisticsQueryImpl;
 import org.camunda.bpm.engine.impl.Page;
 import org.camunda.bpm.engine.impl.ProcessDefinitionStatisticsQueryImpl;
 import org.camunda.bpm.engine.impl.batch.BatchStatisticsQueryImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
+import org.camunda.bpm.engine.impl.identity.Authentication;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.management.StatisticsCache;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
 import org.camunda.bpm.engine.management.ActivityStatistics;
 import org.camunda.bpm.engine.history.HistoricDecisionInstanceStatistics;
@@ -30,6 +34,7 @@ import org.camunda.bpm.engine.management.DeploymentStatistics;
 import org.camunda.bpm.engine.management.ProcessDefinitionStatistics;
 import org.camunda.bpm.engine.repository.DecisionRequirementsDefinition;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.camunda.bpm.engine.authorization.Permissions.READ;
@@ -42,23 +47,27 @@ public class StatisticsManager extends AbstractManager {
   @SuppressWarnings("unchecked")
   public List<ProcessDefinitionStatistics> getStatisticsGroupedByProcessDefinitionVersion(ProcessDefinitionStatisticsQueryImpl query, Page page) {
     configureQuery(query);
-    return getDbEntityManager().selectList("selectProcessDefinitionStatistics", query, page);
+    return (List<ProcessDefinitionStatistics>) selectListCached("selectProcessDefinitionStatistics", query, page,
+        query.isFailedJobsToInclude(), query.isIncidentsToInclude(), query.isRootIncidentsToInclude(), query.getIncludeIncidentsForType());
   }
 
   public long getStatisticsCountGroupedByProcessDefinitionVersion(ProcessDefinitionStatisticsQueryImpl query) {
     configureQuery(query);
-    return (Long) getDbEntityManager().selectOne("selectProcessDefinitionStatisticsCount", query);
+    return (Long) selectOneCached("selectProcessDefinitionStatisticsCount", query,
+        query.isFailedJobsToInclude(), query.isIncidentsToInclude(), query.isRootIncidentsToInclude(), query.getIncludeIncidentsForType());
   }
 
   @SuppressWarnings("unchecked")
   public List<ActivityStatistics> getStatisticsGroupedByActivity(ActivityStatisticsQueryImpl query, Page page) {
     configureQuery(query);
-    return getDbEntityManager().selectList("selectActivityStatistics", query, page);
+    return (List<ActivityStatistics>) selectListCached("selectActivityStatistics", query, page,
+        query.getProcessDefinitionId(), query.isFailedJobsToInclude(), query.isIncidentsToInclude(), query.getIncludeIncidentsForType());
   }
 
   public long getStatisticsCountGroupedByActivity(ActivityStatisticsQueryImpl query) {
     configureQuery(query);
-    return (Long) getDbEntityManager().selectOne("selectActivityStatisticsCount", query);
+    return (Long) selectOneCached("selectActivityStatisticsCount", query,
+        query.getProcessDefinitionId(), query.isFailedJobsToInclude(), query.isIncidentsToInclude(), query.getIncludeIncidentsForType());
   }
 
   @SuppressWarnings("unchecked")
@@ -83,6 +92,68 @@ public class StatisticsManager extends AbstractManager {
     return (Long) getDbEntityManager().selectOne("selectBatchStatisticsCount", query);
   }
 
+  /**
+   * Selects the list from the {@link StatisticsCache} if configured. The key of a cached
+   * result consists of the statement, the page, the given query parameters and everything
+   * the authorization and tenant checks of the query depend on.
+   */
+  protected List<?> selectListCached(String statement, ListQueryParameterObject query, Page page, Object... queryParameters) {
+    StatisticsCache statisticsCache = Context.getProcessEngineConfiguration().getStatisticsCache();
+    if (statisticsCache == null) {
+      return getDbEntityManager().selectList(statement, query, page);
+    }
+
+    String cacheKey = createCacheKey(statement, page, queryParameters);
+    List<?> result = (List<?>) statisticsCache.get(cacheKey);
+    if (result == null) {
+      result = getDbEntityManager().selectList(statement, query, page);
+      statisticsCache.put(cacheKey, new ArrayList<Object>(result));
+      return result;
+    }
+    else {
+      return new ArrayList<Object>(result);
+    }
+  }
+
+  protected Object selectOneCached(String statement, ListQueryParameterObject query, Object... queryParameters) {
+    StatisticsCache statisticsCache = Context.getProcessEngineConfiguration().getStatisticsCache();
+    if (statisticsCache == null) {
+      return getDbEntityManager().selectOne(statement, query);
+    }
+
+    String cacheKey = createCacheKey(statement, null, queryParameters);
+    Object result = statisticsCache.get(cacheKey);
+    if (result == null) {
+      result = getDbEntityManager().selectOne(statement, query);
+      statisticsCache.put(cacheKey, result);
+    }
+    return result;
+  }
+
+  protected String createCacheKey(String statement, Page page, Object... queryParameters) {
+    StringBuilder cacheKey = new StringBuilder(statement);
+    for (Object queryParameter : queryParameters) {
+      cacheKey.append('|').append(queryParameter);
+    }
+
+    if (page != null) {
+      cacheKey.append('|').append(page.getFirstResult()).append('|').append(page.getMaxResults());
+    }
+
+    CommandContext commandContext = getCommandContext();
+    cacheKey.append('|').append(isAuthorizationEnabled() && commandContext.isAuthorizationCheckEnabled());
+    cacheKey.append('|').append(commandContext.isTenantCheckEnabled());
+
+    Authentication authentication = getCurrentAuthentication();
+    if (authentication != null) {
+      cacheKey.append('|').append(authentication.getUserId());
+      cacheKey.append('|').append(authentication.getGroupIds());
+      cacheKey.append('|').append(authentication.getTenantIds());
+    }
+
+    return cacheKey.toString();
+  }
+
   protected void configureQuery(DeploymentStatisticsQueryImpl query) {
     getAuthorizationManager().configureDeploymentStatisticsQuery(query);
     getTenantManager().configureQuery(query);
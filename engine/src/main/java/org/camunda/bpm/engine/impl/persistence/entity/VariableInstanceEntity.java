@@ -275,6 +275,20 @@ public class VariableInstanceEntity implements VariableInstance, CoreVariableIns
     typedValueField.setValue(value);
   }
 
+  /**
+   * Sets the given value unless it is equal to the current value.
+   *
+   * @return <code>true</code> if the value was set
+   */
+  public boolean setValueIfChanged(TypedValue value) {
+    if (!isTransient && typedValueField.replaceUnchangedValue(value)) {
+      return false;
+    }
+
+    setValue(value);
+    return true;
+  }
+
   public void clearValueFields() {
     this.longValue = null;
     this.doubleValue = null;
@@ -15,6 +15,7 @@
  */
 package org.camunda.bpm.engine.impl.persistence.entity;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -22,7 +23,10 @@ import java.util.Map;
 
 import org.camunda.bpm.engine.impl.Page;
 import org.camunda.bpm.engine.impl.VariableInstanceQueryImpl;
+import org.camunda.bpm.engine.impl.core.variable.scope.VariableCollectionProvider;
+import org.camunda.bpm.engine.impl.core.variable.scope.VariableStore;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
+import org.camunda.bpm.engine.impl.util.CollectionUtil;
 import org.camunda.bpm.engine.runtime.VariableInstance;
 
 
@@ -31,6 +35,8 @@ import org.camunda.bpm.engine.runtime.VariableInstance;
  */
 public class VariableInstanceManager extends AbstractManager {
 
+  protected static final int VARIABLE_SCOPE_IDS_CHUNK_SIZE = 1000;
+
   public List<VariableInstanceEntity> findVariableInstancesByTaskId(String taskId) {
     return findVariableInstancesByTaskIdAndVariableNames(taskId, null);
   }
@@ -72,6 +78,66 @@ public class VariableInstanceManager extends AbstractManager {
     return getDbEntityManager().selectList("selectVariablesByCaseExecutionId", parameter);
   }
 
+  /**
+   * Finds the variables of the given variable scopes (i.e., tasks, executions or case executions).
+   * The ids are queried in chunks to respect the limits of IN clauses of some databases.
+   */
+  @SuppressWarnings("unchecked")
+  public List<VariableInstanceEntity> findVariableInstancesByVariableScopeIds(List<String> variableScopeIds) {
+    List<VariableInstanceEntity> variableInstances = new ArrayList<VariableInstanceEntity>();
+    for (List<String> chunk : CollectionUtil.partition(variableScopeIds, VARIABLE_SCOPE_IDS_CHUNK_SIZE)) {
+      variableInstances.addAll(getDbEntityManager().selectList("selectVariablesByVariableScopeIds", chunk));
+    }
+    return variableInstances;
+  }
+
+  /**
+   * Fetches the variables of the given tasks with a single query (per chunk) and
+   * initializes their variable stores. Tasks with already initialized variables are skipped.
+   */
+  public void initializeTaskVariables(Collection<TaskEntity> tasks) {
+    Map<String, VariableStore<VariableInstanceEntity>> variableStores = new HashMap<String, VariableStore<VariableInstanceEntity>>();
+    for (TaskEntity task : tasks) {
+      variableStores.put(task.getId(), task.variableStore);
+    }
+    initializeVariableStores(variableStores);
+  }
+
+  /**
+   * Fetches the variables of the given executions with a single query (per chunk) and
+   * initializes their variable stores. Executions with already initialized variables are skipped.
+   */
+  public void initializeExecutionVariables(Collection<ExecutionEntity> executions) {
+    Map<String, VariableStore<VariableInstanceEntity>> variableStores = new HashMap<String, VariableStore<VariableInstanceEntity>>();
+    for (ExecutionEntity execution : executions) {
+      variableStores.put(execution.getId(), execution.variableStore);
+    }
+    initializeVariableStores(variableStores);
+  }
+
+  protected void initializeVariableStores(Map<String, VariableStore<VariableInstanceEntity>> variableStoresByScopeId) {
+    List<String> variableScopeIds = new ArrayList<String>();
+    for (Map.Entry<String, VariableStore<VariableInstanceEntity>> variableStore : variableStoresByScopeId.entrySet()) {
+      if (!variableStore.getValue().isInitialized()) {
+        variableScopeIds.add(variableStore.getKey());
+      }
+    }
+
+    if (variableScopeIds.isEmpty()) {
+      return;
+    }
+
+    Map<String, List<VariableInstanceEntity>> variablesByScopeId = new HashMap<String, List<VariableInstanceEntity>>();
+    for (VariableInstanceEntity variableInstance : findVariableInstancesByVariableScopeIds(variableScopeIds)) {
+      CollectionUtil.addToMapOfLists(variablesByScopeId, variableInstance.getVariableScopeId(), variableInstance);
+    }
+
+    for (String variableScopeId : variableScopeIds) {
+      VariableStore<VariableInstanceEntity> variableStore = variableStoresByScopeId.get(variableScopeId);
+      variableStore.setVariablesProvider(new VariableCollectionProvider<VariableInstanceEntity>(variablesByScopeId.get(variableScopeId)));
+    }
+  }
+
   public void deleteVariableInstanceByTask(TaskEntity task) {
     List<VariableInstanceEntity> variableInstances = task.variableStore.getVariables();
     for (VariableInstanceEntity variableInstance: variableInstances) {
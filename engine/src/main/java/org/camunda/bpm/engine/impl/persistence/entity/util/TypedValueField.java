@@ -133,6 +133,54 @@ public class TypedValueField implements DbEntityLifecycleAware, CommandContextLi
     return value;
   }
 
+  /**
+   * Replaces the cached value with the given value if it is serialized exactly
+   * like the current value. In this case, the value fields are not written again.
+   *
+   * @return <code>true</code> if the value was replaced, <code>false</code>
+   *   if the given value differs from the current value
+   */
+  @SuppressWarnings("unchecked")
+  public boolean replaceUnchangedValue(TypedValue value) {
+    TypedValueSerializer<?> valueSerializer = getSerializers().findSerializerForValue(value,
+        Context.getProcessEngineConfiguration().getFallbackSerializerFactory());
+
+    if (serializerName == null || !serializerName.equals(valueSerializer.getName())) {
+      return false;
+    }
+
+    if(value instanceof UntypedValueImpl) {
+      value = valueSerializer.convertToTypedValue((UntypedValueImpl) value);
+    }
+
+    ValueFieldsImpl tempValueFields = new ValueFieldsImpl();
+    ((TypedValueSerializer<TypedValue>) valueSerializer).writeValue(value, tempValueFields);
+
+    if (!hasEqualValueFields(tempValueFields)) {
+      return false;
+    }
+
+    cachedValue = value;
+
+    if (notifyOnImplicitUpdates && isMutableValue(cachedValue)) {
+      Context.getCommandContext().registerCommandContextListener(this);
+    }
+
+    return true;
+  }
+
+  protected boolean hasEqualValueFields(ValueFields otherValueFields) {
+    return equals(valueFields.getTextValue(), otherValueFields.getTextValue())
+        && equals(valueFields.getTextValue2(), otherValueFields.getTextValue2())
+        && equals(valueFields.getLongValue(), otherValueFields.getLongValue())
+        && equals(valueFields.getDoubleValue(), otherValueFields.getDoubleValue())
+        && Arrays.equals(valueFields.getByteArrayValue(), otherValueFields.getByteArrayValue());
+  }
+
+  protected static boolean equals(Object value, Object otherValue) {
+    return value == null ? otherValue == null : value.equals(otherValue);
+  }
+
   public boolean isMutable() {
     return isMutableValue(cachedValue);
   }
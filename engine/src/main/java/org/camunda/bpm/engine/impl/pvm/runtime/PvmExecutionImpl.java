@@ -1880,6 +1880,11 @@ public abstract class PvmExecutionImpl extends CoreExecution implements Activity
       return;
     }
 
+    //if no conditional event depends on the changed variable the event does not have to be delayed
+    if (!isConditionalEventVariable(delayedVariableEvent.getEvent())) {
+      return;
+    }
+
     if (isProcessInstanceExecution()) {
       delayedEvents.add(delayedVariableEvent);
     } else {
@@ -1887,6 +1892,16 @@ public abstract class PvmExecutionImpl extends CoreExecution implements Activity
     }
   }
 
+  protected boolean isConditionalEventVariable(VariableEvent variableEvent) {
+    ProcessDefinitionImpl processDefinition = getProcessDefinition();
+    if (variableEvent == null || !processDefinition.getProperties().contains(BpmnProperties.CONDITIONAL_EVENT_VARIABLE_NAMES)) {
+      return true;
+    }
+
+    Set<String> variableNames = processDefinition.getProperties().get(BpmnProperties.CONDITIONAL_EVENT_VARIABLE_NAMES);
+    return variableNames == null || variableNames.contains(variableEvent.getVariableInstance().getName());
+  }
+
   /**
    * The current delayed variable events.
    *
@@ -17,6 +17,7 @@ package org.camunda.bpm.engine.impl.runtime;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.bpmn.helper.BpmnProperties;
@@ -31,6 +32,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.EventSubscriptionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
+import org.camunda.bpm.engine.variable.VariableMap;
 
 /**
  * @author Yana Vasileva
@@ -125,11 +127,32 @@ public class DefaultConditionHandler implements ConditionHandler {
     temporaryExecution.setProcessDefinition(activity.getProcessDefinition());
 
     ConditionalEventDefinition conditionalEventDefinition = activity.getProperties().get(BpmnProperties.CONDITIONAL_EVENT_DEFINITION);
-    if (conditionalEventDefinition.getVariableName() == null || conditionSet.getVariables().containsKey(conditionalEventDefinition.getVariableName())) {
+    if (containsDependentVariable(conditionSet, conditionalEventDefinition)) {
       return conditionalEventDefinition.tryEvaluate(temporaryExecution);
     } else {
       return false;
     }
   }
 
+  /**
+   * A condition which reads none of the given variables can not be satisfied,
+   * so that it does not have to be evaluated.
+   */
+  protected boolean containsDependentVariable(ConditionSet conditionSet, ConditionalEventDefinition conditionalEventDefinition) {
+    Set<String> dependentVariableNames = conditionalEventDefinition.getDependentVariableNames();
+    if (dependentVariableNames == null) {
+      return true;
+    }
+
+    VariableMap variables = conditionSet.getVariables();
+    if (variables != null) {
+      for (String variableName : dependentVariableNames) {
+        if (variables.containsKey(variableName)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
 }
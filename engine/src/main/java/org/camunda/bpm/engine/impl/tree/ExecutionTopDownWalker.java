@@ -15,8 +15,8 @@
  */
 package org.camunda.bpm.engine.impl.tree;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 
@@ -38,7 +38,7 @@ public class ExecutionTopDownWalker extends ReferenceWalker<ExecutionEntity> {
   protected Collection<ExecutionEntity> nextElements() {
     List<ExecutionEntity> executions = getCurrentElement().getExecutions();
     if (executions == null) {
-      executions = new ArrayList<ExecutionEntity>();
+      executions = Collections.emptyList();
     }
     return (List) executions;
   }
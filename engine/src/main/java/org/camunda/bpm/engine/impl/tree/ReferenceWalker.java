@@ -50,6 +50,13 @@ public abstract class ReferenceWalker<T> {
     currentElements = new LinkedList<T>(initialElements);
   }
 
+  /**
+   * For subclasses that keep track of the current element themselves,
+   * see {@link #getCurrentElement()} and {@link #walkToNextElement()}.
+   */
+  protected ReferenceWalker() {
+  }
+
   public ReferenceWalker<T> addPreVisitor(TreeVisitor<T> collector) {
     this.preVisitor.add(collector);
     return this;
@@ -74,8 +81,7 @@ public abstract class ReferenceWalker<T> {
         collector.visit(getCurrentElement());
       }
 
-      currentElements.addAll(nextElements());
-      currentElements.remove(0);
+      walkToNextElement();
 
       for (TreeVisitor<T> collector : postVisitor) {
         collector.visit(getCurrentElement());
@@ -90,8 +96,7 @@ public abstract class ReferenceWalker<T> {
         collector.visit(getCurrentElement());
       }
 
-      currentElements.addAll(nextElements());
-      currentElements.remove(0);
+      walkToNextElement();
 
       for (TreeVisitor<T> collector : postVisitor) {
         collector.visit(getCurrentElement());
@@ -100,6 +105,11 @@ public abstract class ReferenceWalker<T> {
     return getCurrentElement();
   }
 
+  protected void walkToNextElement() {
+    currentElements.addAll(nextElements());
+    currentElements.remove(0);
+  }
+
   public T getCurrentElement() {
     return currentElements.isEmpty() ? null : currentElements.get(0);
   }
@@ -23,8 +23,14 @@ import java.util.Collections;
  */
 public abstract class SingleReferenceWalker<T> extends ReferenceWalker<T> {
 
+  /**
+   * There is at most one next element, so the walker does not need to
+   * maintain a list of elements (and allocate one per step) to walk.
+   */
+  protected T currentElement;
+
   public SingleReferenceWalker(T initialElement) {
-    super(initialElement);
+    currentElement = initialElement;
   }
 
   @Override
@@ -39,5 +45,15 @@ public abstract class SingleReferenceWalker<T> extends ReferenceWalker<T> {
     }
   }
 
+  @Override
+  protected void walkToNextElement() {
+    currentElement = nextElement();
+  }
+
+  @Override
+  public T getCurrentElement() {
+    return currentElement;
+  }
+
   protected abstract T nextElement();
 }
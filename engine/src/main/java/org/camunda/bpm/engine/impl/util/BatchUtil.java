@@ -15,12 +15,26 @@
  */
 package org.camunda.bpm.engine.impl.util;
 
+import java.util.Map;
+
 import org.camunda.bpm.engine.impl.batch.BatchConfiguration;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 
 public class BatchUtil {
+
+  /**
+   * Calculates the batch size with the engine wide number of invocations per batch job,
+   * i.e. without a batch type specific configuration.
+   */
   public static int calculateBatchSize(ProcessEngineConfigurationImpl engineConfiguration, BatchConfiguration batchConfiguration) {
-    int invocationsPerBatchJob = engineConfiguration.getInvocationsPerBatchJob();
+    return calculateBatchSize(engineConfiguration, batchConfiguration, null);
+  }
+
+  public static int calculateBatchSize(ProcessEngineConfigurationImpl engineConfiguration, BatchConfiguration batchConfiguration, String batchType) {
+    return calculateBatchSize(getInvocationsPerBatchJob(batchType, engineConfiguration), batchConfiguration);
+  }
+
+  protected static int calculateBatchSize(int invocationsPerBatchJob, BatchConfiguration batchConfiguration) {
     int processInstanceCount = batchConfiguration.getIds().size();
 
     if (processInstanceCount == 0 || invocationsPerBatchJob == 0) {
@@ -33,4 +47,21 @@ public class BatchUtil {
 
     return (processInstanceCount / invocationsPerBatchJob) + 1;
   }
-}
\ No newline at end of file
+
+  /**
+   * @return the number of invocations per batch job configured for the given batch type
+   * or the engine wide default if there is no positive value configured for the batch type
+   */
+  public static int getInvocationsPerBatchJob(String batchType, ProcessEngineConfigurationImpl engineConfiguration) {
+    Map<String, Integer> invocationsPerBatchJobByBatchType = engineConfiguration.getInvocationsPerBatchJobByBatchType();
+
+    if (invocationsPerBatchJobByBatchType != null) {
+      Integer invocationsPerBatchJob = invocationsPerBatchJobByBatchType.get(batchType);
+      if (invocationsPerBatchJob != null && invocationsPerBatchJob > 0) {
+        return invocationsPerBatchJob;
+      }
+    }
+
+    return engineConfiguration.getInvocationsPerBatchJob();
+  }
+}
@@ -293,7 +293,7 @@ public final class JsonUtil {
       return Collections.emptyList();
     }
 
-    List<String> list = new ArrayList<>();
+    List<String> list = new ArrayList<>(jsonArray.size());
     for (JsonElement entry : jsonArray) {
       String stringValue = null;
 
@@ -0,0 +1,32 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.query;
+
+/**
+ * Receives the results of a query one by one while they are read from the database.
+ *
+ * @param <U> the type of the query results
+ */
+public interface QueryResultHandler<U> {
+
+  /**
+   * Called for each result of the query, in the order of the query. The result is
+   * not registered in the entity cache of the command, i.e. it is not kept in memory
+   * after the handler returns unless the handler keeps a reference to it.
+   */
+  void handleResult(U result);
+
+}
@@ -18,9 +18,11 @@ package org.camunda.bpm.engine.runtime;
 import java.util.Map;
 
 import org.camunda.bpm.engine.AuthorizationException;
+import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.authorization.Permissions;
 import org.camunda.bpm.engine.authorization.Resources;
+import org.camunda.bpm.engine.batch.Batch;
 
 /**
  * Fluent builder to notify the process engine that a signal event has been
@@ -95,4 +97,29 @@ public interface SignalEventReceivedBuilder {
    */
   void send();
 
+  /**
+   * <p>
+   * Delivers the signal asynchronously to waiting executions and process
+   * definitions. The seed job of the batch resolves the matching event
+   * subscriptions page by page and creates batch jobs which notify them in
+   * chunks. The progress can be observed using the batch statistics.
+   * </p>
+   *
+   * <p>
+   * The batch jobs check the permissions required by {@link #send()} with the
+   * authentication of the user who sends the signal. If a permission is
+   * missing, the batch job fails. Event subscriptions which are removed before
+   * their chunk is executed are skipped. Cannot be used in combination with
+   * {@link #executionId(String)} or {@link #setVariables(Map)}.
+   * </p>
+   *
+   * @return the batch which delivers the signal
+   *
+   * @throws BadUserRequestException
+   *           if a single execution or variables are specified
+   * @throws AuthorizationException
+   *           if the user has no {@link Permissions#CREATE} permission on {@link Resources#BATCH}.
+   */
+  Batch sendAsync();
+
 }
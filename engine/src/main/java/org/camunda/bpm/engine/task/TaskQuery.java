@@ -39,6 +39,15 @@ public interface TaskQuery extends Query<TaskQuery, Task>{
    */
   TaskQuery taskId(String taskId);
 
+  /**
+   * Only select tasks whose id is greater than the given id.
+   * In combination with {@link #orderByTaskId()} in ascending order, pass the
+   * id of the last result of a page to fetch the next page without skipping
+   * the rows of the previous pages. The criterion applies to the whole query
+   * and cannot be used within an {@link #or()} query.
+   */
+  TaskQuery taskIdAfter(String taskId);
+
   /** Only select tasks with the given name */
   TaskQuery taskName(String name);
 
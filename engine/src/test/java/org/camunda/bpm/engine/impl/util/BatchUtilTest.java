@@ -24,6 +24,7 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
 import java.util.List;
 
 public class BatchUtilTest {
@@ -76,6 +77,14 @@ public class BatchUtilTest {
     testConfiguration(engineConfiguration, batchConfiguration, 0);
   }
   
+  @Test
+  public void shouldIgnoreNonPositiveSizeOfBatchType() {
+    when(ids.size()).thenReturn(5);
+    when(engineConfiguration.getInvocationsPerBatchJob()).thenReturn(2);
+    when(engineConfiguration.getInvocationsPerBatchJobByBatchType()).thenReturn(Collections.singletonMap("type", 0));
+    assertEquals(3, BatchUtil.calculateBatchSize(engineConfiguration, batchConfiguration, "type"));
+  }
+
   private void testConfiguration(ProcessEngineConfigurationImpl engineConfiguration, BatchConfiguration batchConfiguration, int expectedResult) {
     assertEquals(expectedResult, BatchUtil.calculateBatchSize(engineConfiguration, batchConfiguration));
   }
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.authorization;
+
+import org.camunda.bpm.engine.AuthorizationService;
+import org.camunda.bpm.engine.authorization.Authorization;
+import org.camunda.bpm.engine.authorization.Permissions;
+import org.camunda.bpm.engine.authorization.Resources;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.JavaDelegate;
+
+/**
+ * Grants the authenticated user all permissions on the current process instance.
+ */
+public class GrantProcessInstanceAuthorizationDelegate implements JavaDelegate {
+
+  public void execute(DelegateExecution execution) throws Exception {
+    AuthorizationService authorizationService = execution.getProcessEngineServices().getAuthorizationService();
+    String userId = execution.getProcessEngineServices().getIdentityService().getCurrentAuthentication().getUserId();
+
+    Authorization authorization = authorizationService.createNewAuthorization(Authorization.AUTH_TYPE_GRANT);
+    authorization.setResource(Resources.PROCESS_INSTANCE);
+    authorization.setResourceId(execution.getProcessInstanceId());
+    authorization.setUserId(userId);
+    authorization.addPermission(Permissions.ALL);
+    authorizationService.saveAuthorization(authorization);
+  }
+
+}
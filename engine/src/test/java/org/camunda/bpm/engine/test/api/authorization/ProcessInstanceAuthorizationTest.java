@@ -30,25 +30,36 @@ import static org.camunda.bpm.engine.authorization.ProcessDefinitionPermissions.
 import static org.camunda.bpm.engine.authorization.ProcessDefinitionPermissions.UPDATE_INSTANCE_VARIABLE;
 import static org.camunda.bpm.engine.authorization.ProcessInstancePermissions.SUSPEND;
 import static org.camunda.bpm.engine.authorization.ProcessInstancePermissions.UPDATE_VARIABLE;
+import static org.camunda.bpm.engine.authorization.Resources.BATCH;
 import static org.camunda.bpm.engine.authorization.Resources.PROCESS_DEFINITION;
 import static org.camunda.bpm.engine.authorization.Resources.PROCESS_INSTANCE;
 import static org.camunda.bpm.engine.authorization.Resources.TASK;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedSet;
 
 import org.camunda.bpm.engine.AuthorizationException;
 import org.camunda.bpm.engine.authorization.Authorization;
+import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.impl.AbstractQuery;
 import org.camunda.bpm.engine.impl.RuntimeServiceImpl;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbBulkOperation;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationManager;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.AuthorizationEntity;
 import org.camunda.bpm.engine.runtime.ActivityInstance;
+import org.camunda.bpm.engine.runtime.Job;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
 import org.camunda.bpm.engine.runtime.VariableInstanceQuery;
 import org.camunda.bpm.engine.task.Task;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.camunda.bpm.model.bpmn.Bpmn;
 
 /**
  * @author Roman Smirnov
@@ -1233,6 +1244,114 @@ public class ProcessInstanceAuthorizationTest extends AuthorizationTest {
     assertEquals("task", task.getTaskDefinitionKey());
   }
 
+  public void testSignalEventReceivedAsyncWithoutAuthorization() {
+    // given
+    String processInstanceId = startProcessInstanceByKey(SIGNAL_BOUNDARY_PROCESS_KEY).getId();
+    createGrantAuthorization(BATCH, ANY, userId, CREATE);
+
+    Batch batch = runtimeService.createSignalEvent("alert").sendAsync();
+
+    try {
+      // when
+      executeSignalEventDeliveryJobs(batch);
+      fail("Exception expected: It should not be possible to deliver a signal event asynchronously");
+    } catch (AuthorizationException e) {
+      // then
+      String message = e.getMessage();
+      assertTextPresent(userId, message);
+      assertTextPresent(UPDATE.getName(), message);
+      assertTextPresent(processInstanceId, message);
+      assertTextPresent(PROCESS_INSTANCE.resourceName(), message);
+      assertTextPresent(UPDATE_INSTANCE.getName(), message);
+      assertTextPresent(SIGNAL_BOUNDARY_PROCESS_KEY, message);
+      assertTextPresent(PROCESS_DEFINITION.resourceName(), message);
+    }
+
+    disableAuthorization();
+    managementService.deleteBatch(batch.getId(), true);
+    enableAuthorization();
+  }
+
+  public void testStartProcessInstanceBySignalEventReceivedAsyncWithoutAuthorization() {
+    // given
+    createGrantAuthorization(BATCH, ANY, userId, CREATE);
+
+    Batch batch = runtimeService.createSignalEvent("warning").sendAsync();
+
+    try {
+      // when
+      executeSignalEventDeliveryJobs(batch);
+      fail("Exception expected");
+    } catch (AuthorizationException e) {
+      // then
+      assertTextPresent("The user with id 'test' does not have 'CREATE' permission on resource 'ProcessInstance'", e.getMessage());
+    }
+
+    disableAuthorization();
+    managementService.deleteBatch(batch.getId(), true);
+    enableAuthorization();
+  }
+
+  public void testSignalEventReceivedAsync() {
+    // given
+    String processInstanceId = startProcessInstanceByKey(SIGNAL_BOUNDARY_PROCESS_KEY).getId();
+    createGrantAuthorization(BATCH, ANY, userId, CREATE);
+    createGrantAuthorization(PROCESS_INSTANCE, processInstanceId, userId, UPDATE);
+
+    Batch batch = runtimeService.createSignalEvent("alert").sendAsync();
+    assertEquals(1, batch.getTotalJobs());
+
+    // when
+    executeSignalEventDeliveryJobs(batch);
+
+    // then
+    Task task = selectSingleTask();
+    assertNotNull(task);
+    assertEquals("taskAfterBoundaryEvent", task.getTaskDefinitionKey());
+
+    disableAuthorization();
+    managementService.deleteBatch(batch.getId(), true);
+    enableAuthorization();
+  }
+
+  public void testStartProcessInstanceBySignalEventReceivedAsync() {
+    // given
+    createGrantAuthorization(BATCH, ANY, userId, CREATE);
+    createGrantAuthorization(PROCESS_INSTANCE, ANY, userId, CREATE);
+    createGrantAuthorization(PROCESS_DEFINITION, SIGNAL_START_PROCESS_KEY, userId, CREATE_INSTANCE);
+
+    Batch batch = runtimeService.createSignalEvent("warning").sendAsync();
+
+    // when
+    executeSignalEventDeliveryJobs(batch);
+
+    // then
+    Task task = selectSingleTask();
+    assertNotNull(task);
+    assertEquals("task", task.getTaskDefinitionKey());
+
+    disableAuthorization();
+    managementService.deleteBatch(batch.getId(), true);
+    enableAuthorization();
+  }
+
+  public void testSignalEventReceivedAsyncWithoutEventSubscription() {
+    // given
+    createGrantAuthorization(BATCH, ANY, userId, CREATE);
+
+    // when
+    Batch batch = runtimeService.createSignalEvent("unknownSignal").sendAsync();
+    executeSignalEventDeliveryJobs(batch);
+
+    // then
+    assertEquals(0, batch.getTotalJobs());
+
+    disableAuthorization();
+    assertEquals(0, managementService.createJobQuery().jobDefinitionId(batch.getBatchJobDefinitionId()).count());
+    managementService.deleteBatch(batch.getId(), true);
+    enableAuthorization();
+  }
+
   /**
    * currently the ThrowSignalEventActivityBehavior does not check authorization
    */
@@ -2840,6 +2959,55 @@ public class ProcessInstanceAuthorizationTest extends AuthorizationTest {
     assertNull(authorization);
   }
 
+  public void testClearProcessInstanceAuthorizationOfProcessWithoutWaitState() {
+    // given a process that grants an authorization on its instance and ends without wait state
+    disableAuthorization();
+    deployment(Bpmn.createExecutableProcess("straightThroughProcess")
+      .startEvent()
+      .serviceTask()
+        .camundaClass(GrantProcessInstanceAuthorizationDelegate.class.getName())
+      .endEvent()
+      .done());
+    enableAuthorization();
+
+    createGrantAuthorization(PROCESS_INSTANCE, ANY, userId, CREATE);
+    createGrantAuthorization(PROCESS_DEFINITION, "straightThroughProcess", userId, CREATE_INSTANCE);
+
+    // when
+    final List<DbBulkOperation> scheduledBulkDeletes = new ArrayList<DbBulkOperation>();
+    String processInstanceId = processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<String>() {
+      public String execute(CommandContext commandContext) {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("straightThroughProcess").getId();
+
+        // collect the bulk operations which are flushed when the command completes
+        DbOperationManager operationManager = commandContext.getDbEntityManager().getDbOperationManager();
+        SortedSet<DbBulkOperation> authorizationBulkOperations = operationManager.bulkOperations.get(AuthorizationEntity.class);
+        if (authorizationBulkOperations != null) {
+          scheduledBulkDeletes.addAll(authorizationBulkOperations);
+        }
+        scheduledBulkDeletes.addAll(operationManager.bulkOperationsInsertionOrder);
+
+        return processInstanceId;
+      }
+    });
+
+    // then no bulk delete of the authorizations is issued for the never flushed instance
+    for (DbBulkOperation bulkOperation : scheduledBulkDeletes) {
+      assertFalse(bulkOperation.toString(), "deleteAuthorizationsForResourceId".equals(bulkOperation.getStatement()));
+    }
+
+    disableAuthorization();
+    assertProcessEnded(processInstanceId);
+
+    Authorization authorization = authorizationService
+        .createAuthorizationQuery()
+        .resourceId(processInstanceId)
+        .singleResult();
+    enableAuthorization();
+
+    assertNull(authorization);
+  }
+
   // RuntimeService#getVariable() ////////////////////////////////////////////
 
   public void testGetVariableWithoutAuthorization() {
@@ -5325,6 +5493,21 @@ public class ProcessInstanceAuthorizationTest extends AuthorizationTest {
     verifyVariableInstanceCountDisabledAuthorization(0);
   }
 
+  protected void executeSignalEventDeliveryJobs(Batch batch) {
+    // like the job executor, execute the jobs without the authentication of the user
+    identityService.clearAuthentication();
+    try {
+      Job seedJob = managementService.createJobQuery().jobDefinitionId(batch.getSeedJobDefinitionId()).singleResult();
+      managementService.executeJob(seedJob.getId());
+
+      for (Job job : managementService.createJobQuery().jobDefinitionId(batch.getBatchJobDefinitionId()).list()) {
+        managementService.executeJob(job.getId());
+      }
+    } finally {
+      identityService.setAuthentication(userId, Arrays.asList(groupId));
+    }
+  }
+
   protected void setReadVariableAsDefaultReadVariablePermission() {
     processEngineConfiguration.setEnforceSpecificVariablePermission(true);
   }
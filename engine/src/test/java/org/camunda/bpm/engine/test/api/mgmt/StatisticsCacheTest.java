@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.mgmt;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.IdentityService;
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.management.ActivityStatistics;
+import org.camunda.bpm.engine.management.ProcessDefinitionStatistics;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class StatisticsCacheTest {
+
+  protected static final long TIME_TO_LIVE = 10000;
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      configuration.setStatisticsCacheTimeToLive(TIME_TO_LIVE);
+      return configuration;
+    }
+  };
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  public ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected ManagementService managementService;
+  protected IdentityService identityService;
+  protected ProcessDefinition processDefinition;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    managementService = engineRule.getManagementService();
+    identityService = engineRule.getIdentityService();
+
+    ClockUtil.setCurrentTime(new Date());
+    engineRule.getProcessEngineConfiguration().getStatisticsCache().clear();
+
+    processDefinition = testRule.deployAndGetDefinition(Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .userTask("task")
+      .endEvent()
+      .done());
+  }
+
+  @After
+  public void tearDown() {
+    ClockUtil.reset();
+    identityService.clearAuthentication();
+    engineRule.getProcessEngineConfiguration().getStatisticsCache().clear();
+  }
+
+  @Test
+  public void testActivityStatisticsAreCached() {
+    // given
+    runtimeService.startProcessInstanceByKey("process");
+    assertEquals(1, getTaskInstanceCount());
+
+    // when
+    runtimeService.startProcessInstanceByKey("process");
+
+    // then the cached result is returned
+    assertEquals(1, getTaskInstanceCount());
+    assertEquals(1, managementService.createActivityStatisticsQuery(processDefinition.getId()).count());
+  }
+
+  @Test
+  public void testCachedActivityStatisticsExpire() {
+    // given
+    runtimeService.startProcessInstanceByKey("process");
+    assertEquals(1, getTaskInstanceCount());
+    runtimeService.startProcessInstanceByKey("process");
+
+    // when
+    ClockUtil.setCurrentTime(new Date(ClockUtil.getCurrentTime().getTime() + TIME_TO_LIVE));
+
+    // then
+    assertEquals(2, getTaskInstanceCount());
+  }
+
+  @Test
+  public void testQueryParametersArePartOfTheCacheKey() {
+    // given
+    runtimeService.startProcessInstanceByKey("process");
+    managementService.createProcessDefinitionStatisticsQuery().list();
+    runtimeService.startProcessInstanceByKey("process");
+
+    // when
+    List<ProcessDefinitionStatistics> statistics = managementService.createProcessDefinitionStatisticsQuery()
+      .includeFailedJobs()
+      .list();
+
+    // then
+    assertEquals(1, statistics.size());
+    assertEquals(2, statistics.get(0).getInstances());
+  }
+
+  @Test
+  public void testAuthenticationIsPartOfTheCacheKey() {
+    // given
+    runtimeService.startProcessInstanceByKey("process");
+    assertEquals(1, getTaskInstanceCount());
+    runtimeService.startProcessInstanceByKey("process");
+
+    // when
+    identityService.setAuthenticatedUserId("kermit");
+
+    // then
+    assertEquals(2, getTaskInstanceCount());
+  }
+
+  protected int getTaskInstanceCount() {
+    List<ActivityStatistics> statistics = managementService.createActivityStatisticsQuery(processDefinition.getId()).list();
+    assertEquals(1, statistics.size());
+    return statistics.get(0).getInstances();
+  }
+
+}
@@ -258,6 +258,38 @@ public class GetCompletedHistoricActivityInstancesForOptimizeTest {
     assertThat(completedHistoricActivityInstances.get(3).getActivityId(), is("ServiceTask3"));
   }
 
+  @Test
+  public void finishedAfterIdParameterContinuesWithinSameEndTime() {
+     // given
+    BpmnModelInstance simpleDefinition = Bpmn.createExecutableProcess("process")
+      .startEvent("startEvent")
+      .serviceTask("ServiceTask1")
+        .camundaExpression("${true}")
+      .serviceTask("ServiceTask2")
+        .camundaExpression("${true}")
+      .endEvent("endEvent")
+      .done();
+    testHelper.deploy(simpleDefinition);
+    Date now = new Date((new Date().getTime() / 1000L) * 1000L);
+    ClockUtil.setCurrentTime(now);
+    engineRule.getRuntimeService().startProcessInstanceByKey("process");
+
+    // when
+    Set<String> fetchedIds = new HashSet<>();
+    List<HistoricActivityInstance> page =
+      optimizeService.getCompletedHistoricActivityInstances(pastDate(), null, 1);
+    while (!page.isEmpty()) {
+      assertThat(page.size(), is(1));
+      HistoricActivityInstance last = page.get(0);
+      assertThat(last.getEndTime(), is(now));
+      assertThat(fetchedIds.add(last.getId()), is(true));
+      page = optimizeService.getCompletedHistoricActivityInstances(last.getEndTime(), last.getId(), null, 1);
+    }
+
+    // then
+    assertThat(fetchedIds.size(), is(4));
+  }
+
   @Test
   public void fetchOnlyCompletedActivities() {
      // given
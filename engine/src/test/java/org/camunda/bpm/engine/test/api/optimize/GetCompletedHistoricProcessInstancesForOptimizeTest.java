@@ -244,6 +244,34 @@ public class GetCompletedHistoricProcessInstancesForOptimizeTest {
     assertThat(completedHistoricProcessInstances.get(2).getId(), is(processInstance3.getId()));
   }
 
+  @Test
+  public void finishedAfterIdParameterContinuesWithinSameEndTime() {
+     // given
+    BpmnModelInstance simpleDefinition = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .endEvent()
+      .done();
+    testHelper.deploy(simpleDefinition);
+    Date now = new Date((new Date().getTime() / 1000L) * 1000L);
+    ClockUtil.setCurrentTime(now);
+    runtimeService.startProcessInstanceByKey("process");
+    runtimeService.startProcessInstanceByKey("process");
+
+    // when
+    List<HistoricProcessInstance> firstPage =
+      optimizeService.getCompletedHistoricProcessInstances(pastDate(), null, 1);
+    HistoricProcessInstance lastOfFirstPage = firstPage.get(0);
+    List<HistoricProcessInstance> secondPage =
+      optimizeService.getCompletedHistoricProcessInstances(
+        lastOfFirstPage.getEndTime(), lastOfFirstPage.getId(), null, 10);
+
+    // then
+    assertThat(firstPage.size(), is(1));
+    assertThat(secondPage.size(), is(1));
+    assertThat(secondPage.get(0).getEndTime(), is(lastOfFirstPage.getEndTime()));
+    assertThat(secondPage.get(0).getId().equals(lastOfFirstPage.getId()), is(false));
+  }
+
   @Test
   public void fetchOnlyCompletedProcessInstances() {
      // given
@@ -20,6 +20,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +39,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.util.StringUtil;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.runtime.Execution;
+import org.camunda.bpm.engine.runtime.MessageCorrelationBuilder;
 import org.camunda.bpm.engine.runtime.MessageCorrelationResult;
 import org.camunda.bpm.engine.runtime.MessageCorrelationResultType;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
@@ -310,6 +312,78 @@ public class MessageCorrelationTest {
 
   }
 
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/runtime/MessageCorrelationTest.testCatchingMessageEventCorrelation.bpmn20.xml")
+  @Test
+  public void testCorrelateMessages() {
+    // given
+    ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("process", "businessKey1");
+    ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("process", "businessKey2");
+    ProcessInstance processInstance3 = runtimeService.startProcessInstanceByKey("process", "businessKey3");
+
+    List<MessageCorrelationBuilder> correlations = new ArrayList<MessageCorrelationBuilder>();
+    correlations.add(runtimeService.createMessageCorrelation("newInvoiceMessage").processInstanceBusinessKey("businessKey3"));
+    correlations.add(runtimeService.createMessageCorrelation("newInvoiceMessage").processInstanceBusinessKey("businessKey1"));
+    correlations.add(runtimeService.createMessageCorrelation("newInvoiceMessage").processInstanceBusinessKey("businessKey2"));
+
+    // when
+    List<MessageCorrelationResult> results = runtimeService.correlateMessages(correlations);
+
+    // then the results are in the order of the correlations
+    assertEquals(3, results.size());
+    assertEquals(processInstance3.getId(), results.get(0).getExecution().getProcessInstanceId());
+    assertEquals(processInstance1.getId(), results.get(1).getExecution().getProcessInstanceId());
+    assertEquals(processInstance2.getId(), results.get(2).getExecution().getProcessInstanceId());
+
+    // and all executions have advanced
+    assertEquals(3, runtimeService.createExecutionQuery().activityId("task").count());
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/runtime/MessageCorrelationTest.testCatchingMessageEventCorrelation.bpmn20.xml")
+  @Test
+  public void testCorrelateMessagesFailsIfOneMessageDoesNotMatch() {
+    // given
+    runtimeService.startProcessInstanceByKey("process", "businessKey1");
+
+    List<MessageCorrelationBuilder> correlations = new ArrayList<MessageCorrelationBuilder>();
+    correlations.add(runtimeService.createMessageCorrelation("newInvoiceMessage").processInstanceBusinessKey("businessKey1"));
+    correlations.add(runtimeService.createMessageCorrelation("newInvoiceMessage").processInstanceBusinessKey("anUnknownBusinessKey"));
+
+    // when
+    try {
+      runtimeService.correlateMessages(correlations);
+      fail("Expected a mismatching correlation");
+    } catch (MismatchingMessageCorrelationException e) {
+      // expected
+    }
+
+    // then no execution has advanced
+    assertEquals(0, runtimeService.createExecutionQuery().activityId("task").count());
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/runtime/MessageCorrelationTest.testCatchingMessageEventCorrelation.bpmn20.xml")
+  @Test
+  public void testCorrelateMessagesFailsForSameExecution() {
+    // given
+    runtimeService.startProcessInstanceByKey("process", "businessKey1");
+    runtimeService.startProcessInstanceByKey("process", "businessKey2");
+
+    List<MessageCorrelationBuilder> correlations = new ArrayList<MessageCorrelationBuilder>();
+    correlations.add(runtimeService.createMessageCorrelation("newInvoiceMessage").processInstanceBusinessKey("businessKey1"));
+    correlations.add(runtimeService.createMessageCorrelation("newInvoiceMessage").processInstanceBusinessKey("businessKey2"));
+    correlations.add(runtimeService.createMessageCorrelation("newInvoiceMessage").processInstanceBusinessKey("businessKey1"));
+
+    // when
+    try {
+      runtimeService.correlateMessages(correlations);
+      fail("Expected a mismatching correlation");
+    } catch (MismatchingMessageCorrelationException e) {
+      testRule.assertTextPresent("is already correlated to another message of the list", e.getMessage());
+    }
+
+    // then no execution has advanced
+    assertEquals(0, runtimeService.createExecutionQuery().activityId("task").count());
+  }
+
   @Deployment(resources = "org/camunda/bpm/engine/test/api/runtime/MessageCorrelationTest.testCatchingMessageEventCorrelation.bpmn20.xml")
   @Test
   public void testMessageCorrelateAllResultListWithResultTypeExecution() {
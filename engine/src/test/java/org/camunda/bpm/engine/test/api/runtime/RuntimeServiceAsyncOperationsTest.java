@@ -151,6 +151,48 @@ public class RuntimeServiceAsyncOperationsTest extends AbstractAsyncOperationsTe
     }
   }
 
+  @Deployment(resources = {
+      "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  @Test
+  public void testDeleteProcessInstancesAsyncWithSeveralSeedJobs() throws Exception {
+    // given
+    ProcessEngineConfigurationImpl configuration = engineRule.getProcessEngineConfiguration();
+    configuration.setBatchJobsPerSeed(2);
+    configuration.setInvocationsPerBatchJob(3);
+    List<String> processIds = startTestProcesses(14);
+
+    // when
+    Batch batch = runtimeService.deleteProcessInstancesAsync(processIds, null, TESTING_INSTANCE_DELETE);
+
+    // then every seed job creates the jobs for the next six instances
+    assertSeedJobsCreateBatchJobs(batch, 2, 4, 5);
+
+    executeBatchJobs(batch);
+    assertProcessInstancesAreDeleted();
+  }
+
+  @Deployment(resources = {
+      "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  @Test
+  public void testSuspendProcessInstancesAsyncWithSeveralSeedJobs() throws Exception {
+    // given
+    ProcessEngineConfigurationImpl configuration = engineRule.getProcessEngineConfiguration();
+    configuration.setBatchJobsPerSeed(2);
+    configuration.setInvocationsPerBatchJob(3);
+    List<String> processIds = startTestProcesses(14);
+
+    // when
+    Batch batch = runtimeService.updateProcessInstanceSuspensionState()
+      .byProcessInstanceIds(processIds)
+      .suspendAsync();
+
+    // then every seed job creates the jobs for the next six instances
+    assertSeedJobsCreateBatchJobs(batch, 2, 4, 5);
+
+    executeBatchJobs(batch);
+    assertEquals(14, runtimeService.createProcessInstanceQuery().suspended().count());
+  }
+
   @Deployment(resources = {
       "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
   @Test
@@ -515,6 +557,19 @@ public class RuntimeServiceAsyncOperationsTest extends AbstractAsyncOperationsTe
     return jobIdsForDeployment;
   }
 
+  private void assertSeedJobsCreateBatchJobs(Batch batch, int... expectedCreatedJobsPerRound) {
+    for (int expectedCreatedJobs : expectedCreatedJobsPerRound) {
+      executeSeedJob(batch);
+
+      Batch currentBatch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+      assertEquals(expectedCreatedJobs, currentBatch.getJobsCreated());
+      assertEquals(expectedCreatedJobs, managementService.createJobQuery().jobDefinitionId(batch.getBatchJobDefinitionId()).count());
+    }
+
+    // the last seed job should not trigger another seed job
+    assertEquals(0, managementService.createJobQuery().jobDefinitionId(batch.getSeedJobDefinitionId()).count());
+  }
+
   private void createAndExecuteSeedJobs(String seedJobDefinitionId, int expectedSeedJobsCount) {
     for (int i = 0; i <= expectedSeedJobsCount; i++) {
       Job seedJob = managementService.createJobQuery().jobDefinitionId(seedJobDefinitionId).singleResult();
@@ -23,9 +23,11 @@ import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.repository.ResourceTypes;
 import org.camunda.bpm.engine.variable.Variables;
 import org.junit.Test;
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
 
 /**
  *
@@ -59,4 +61,31 @@ public class VariableInTransactionTest extends PluggableProcessEngineTestCase {
     });
 
   }
+
+  @Test
+  public void testCreateAndDeleteByteArrayByIdInTransaction() throws Exception {
+
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<Void>() {
+      @Override
+      public Void execute(CommandContext commandContext) {
+        //create a byte array
+        ByteArrayEntity byteArray = new ByteArrayEntity("aByteArray", new byte[0], ResourceTypes.RUNTIME);
+        commandContext.getByteArrayManager().insertByteArray(byteArray);
+
+        //delete the byte array by id
+        commandContext.getByteArrayManager().deleteByteArrayById(byteArray.getId());
+
+        //check if the byte array is deleted transient
+        //-> no insert and no bulk delete stmt will be flushed
+        DbEntityManager dbEntityManager = commandContext.getDbEntityManager();
+        CachedDbEntity cachedEntity = dbEntityManager.getDbEntityCache().getCachedEntity(ByteArrayEntity.class, byteArray.getId());
+
+        assertEquals(DbEntityState.DELETED_TRANSIENT, cachedEntity.getEntityState());
+        assertNull(dbEntityManager.getDbOperationManager().bulkOperations.get(ByteArrayEntity.class));
+
+        return null;
+      }
+    });
+
+  }
 }
@@ -137,6 +137,7 @@ public class BatchMigrationTest {
   public void restoreEngineSettings() {
     configuration.setBatchJobsPerSeed(defaultBatchJobsPerSeed);
     configuration.setInvocationsPerBatchJob(defaultInvocationsPerBatchJob);
+    configuration.setInvocationsPerBatchJobByBatchType(null);
     configuration.setEnsureJobDueDateNotNull(defaultEnsureJobDueDateSet);
   }
 
@@ -474,6 +475,28 @@ public class BatchMigrationTest {
     assertNull(helper.getSeedJob(batch));
   }
 
+  @Test
+  public void testCustomNumberOfInvocationsPerBatchJobByBatchType() {
+    ProcessEngineConfigurationImpl configuration = engineRule.getProcessEngineConfiguration();
+    configuration.setInvocationsPerBatchJob(10);
+    configuration.setInvocationsPerBatchJobByBatchType(Collections.singletonMap(Batch.TYPE_PROCESS_INSTANCE_MIGRATION, 2));
+
+    // when
+    Batch batch = helper.migrateProcessInstancesAsync(10);
+
+    // then the batch type specific configuration was saved in the batch
+    assertEquals(2, batch.getInvocationsPerBatchJob());
+
+    // and the size was correctly calculated
+    assertEquals(5, batch.getTotalJobs());
+
+    // when the seed job is executed
+    helper.executeSeedJob(batch);
+
+    // then each migration job handles two process instances
+    assertEquals(5, helper.getExecutionJobs(batch).size());
+  }
+
   @Test
   public void testMonitorJobPollingForCompletion() {
     ClockUtil.setCurrentTime(TEST_DATE);
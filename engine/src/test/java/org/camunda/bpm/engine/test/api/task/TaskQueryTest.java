@@ -53,6 +53,10 @@ import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.exception.NullValueException;
 import org.camunda.bpm.engine.filter.Filter;
 import org.camunda.bpm.engine.impl.TaskQueryImpl;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSession;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.camunda.bpm.engine.impl.interceptor.Session;
+import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
@@ -140,6 +144,53 @@ public class TaskQueryTest extends PluggableProcessEngineTestCase {
     assertEquals(1, query.count());
   }
 
+  public void testQueryByTaskIdAfter() {
+    List<Task> all = taskService.createTaskQuery().orderByTaskId().asc().list();
+
+    // when
+    List<Task> firstPage = taskService.createTaskQuery().orderByTaskId().asc().listPage(0, 5);
+    List<Task> secondPage = taskService.createTaskQuery()
+      .taskIdAfter(firstPage.get(4).getId())
+      .orderByTaskId().asc()
+      .listPage(0, 5);
+
+    // then
+    assertEquals(5, secondPage.size());
+    assertEquals(all.get(5).getId(), secondPage.get(0).getId());
+    assertEquals(1, taskService.createTaskQuery().taskIdAfter(all.get(10).getId()).count());
+  }
+
+  public void testQueryByTaskIdAfterAndOrQuery() {
+    List<Task> all = taskService.createTaskQuery().orderByTaskId().asc().list();
+    String lastId = all.get(all.size() - 1).getId();
+
+    // the criterion restricts all alternatives of the or query
+    TaskQuery query = taskService.createTaskQuery()
+      .taskIdAfter(lastId)
+      .or()
+        .taskId(all.get(0).getId())
+        .taskName("testTask")
+      .endOr();
+
+    assertEquals(0, query.count());
+  }
+
+  public void testQueryByInvalidTaskIdAfter() {
+    try {
+      taskService.createTaskQuery().taskIdAfter(null);
+      fail("expected exception");
+    } catch (ProcessEngineException e) {
+      // OK
+    }
+
+    try {
+      taskService.createTaskQuery().or().taskIdAfter("someId").endOr();
+      fail("expected exception");
+    } catch (ProcessEngineException e) {
+      // OK
+    }
+  }
+
   public void testQueryByInvalidTaskId() {
     TaskQuery query = taskService.createTaskQuery().taskId("invalid");
     assertNull(query.singleResult());
@@ -4425,6 +4476,56 @@ public class TaskQueryTest extends PluggableProcessEngineTestCase {
     }
   }
 
+  @Deployment
+  public void testInitializeFormKeyExpressions() {
+    // given
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("testProcess", Variables.createVariables()
+          .putValue("formKeyPrefix", "embedded")
+          .putValue("formKey", "form" + i));
+    }
+
+    // when
+    final List<String> selectStatements = new ArrayList<String>();
+    Map<Class<?>, SessionFactory> sessionFactories = processEngineConfiguration.getSessionFactories();
+    final DbSqlSessionFactory dbSqlSessionFactory = (DbSqlSessionFactory) sessionFactories.get(DbSqlSession.class);
+    sessionFactories.put(DbSqlSession.class, new SessionFactory() {
+      public Class<?> getSessionType() {
+        return DbSqlSession.class;
+      }
+      public Session openSession() {
+        return new DbSqlSession(dbSqlSessionFactory) {
+          public List<?> selectList(String statement, Object parameter) {
+            selectStatements.add(statement);
+            return super.selectList(statement, parameter);
+          }
+        };
+      }
+    });
+
+    List<Task> tasks;
+    try {
+      tasks = taskService.createTaskQuery()
+        .initializeFormKeys()
+        .list();
+    }
+    finally {
+      sessionFactories.put(DbSqlSession.class, dbSqlSessionFactory);
+    }
+
+    // then every form key is resolved against the variables of its own process instance
+    assertEquals(3, tasks.size());
+    for (Task task : tasks) {
+      String formKey = (String) runtimeService.getVariable(task.getProcessInstanceId(), "formKey");
+      assertEquals("embedded:" + formKey, task.getFormKey());
+    }
+
+    // and the variables are fetched for all tasks and executions at once instead of per scope
+    assertTrue(selectStatements.contains("selectVariablesByVariableScopeIds"));
+    assertFalse(selectStatements.contains("selectVariablesByTaskId"));
+    assertFalse(selectStatements.contains("selectVariablesByExecutionId"));
+  }
+
   @Deployment(resources = "org/camunda/bpm/engine/test/api/task/TaskQueryTest.testProcessDefinition.bpmn20.xml")
   public void testQueryOrderByProcessVariableInteger() {
     ProcessInstance instance500 = runtimeService.startProcessInstanceByKey("oneTaskProcess",
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.variables;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class SkipUnchangedVariableUpdateTest {
+
+  protected static final String ONE_TASK_PROCESS = "org/camunda/bpm/engine/test/api/variables/oneTaskProcess.bpmn20.xml";
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      configuration.setSkipUnchangedVariableUpdates(true);
+      return configuration;
+    }
+  };
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  public ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected HistoryService historyService;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    historyService = engineRule.getHistoryService();
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+  public void testSkipUpdateOfUnchangedValue() {
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    runtimeService.setVariable(processInstance.getId(), "foo", "bar");
+
+    // when
+    runtimeService.setVariable(processInstance.getId(), "foo", "bar");
+
+    // then
+    assertEquals(1, historyService.createHistoricDetailQuery().processInstanceId(processInstance.getId()).variableUpdates().count());
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+  public void testUpdateChangedValue() {
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    runtimeService.setVariable(processInstance.getId(), "foo", "bar");
+
+    // when
+    runtimeService.setVariable(processInstance.getId(), "foo", "baz");
+
+    // then
+    assertEquals(2, historyService.createHistoricDetailQuery().processInstanceId(processInstance.getId()).variableUpdates().count());
+    assertEquals("baz", runtimeService.getVariable(processInstance.getId(), "foo"));
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  public void testSkipUpdateOfUnchangedByteArray() {
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    runtimeService.setVariable(processInstance.getId(), "bytes", new byte[] { 1, 2, 3 });
+    String byteArrayId = getByteArrayValueId("bytes");
+
+    // when
+    runtimeService.setVariable(processInstance.getId(), "bytes", new byte[] { 1, 2, 3 });
+
+    // then the byte array is not rewritten
+    assertEquals(byteArrayId, getByteArrayValueId("bytes"));
+
+    // when
+    runtimeService.setVariable(processInstance.getId(), "bytes", new byte[] { 1, 2, 4 });
+
+    // then
+    assertNotEquals(byteArrayId, getByteArrayValueId("bytes"));
+  }
+
+  protected String getByteArrayValueId(String variableName) {
+    VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.createVariableInstanceQuery()
+        .variableName(variableName)
+        .singleResult();
+    return variableInstance.getByteArrayValueId();
+  }
+
+}
@@ -17,10 +17,12 @@ package org.camunda.bpm.engine.test.bpmn.event.conditional;
 
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.camunda.bpm.engine.impl.bpmn.helper.BpmnProperties;
 import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse;
 import org.camunda.bpm.engine.impl.persistence.entity.DelayedVariableEvent;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessInstanceWithVariablesImpl;
+import org.camunda.bpm.engine.impl.pvm.process.ProcessDefinitionImpl;
 import org.camunda.bpm.engine.test.ProcessEngineRule;
 import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
 import org.camunda.bpm.model.bpmn.Bpmn;
@@ -28,6 +30,7 @@ import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.List;
 
 import static org.camunda.bpm.engine.test.api.runtime.migration.ModifiableBpmnModelInstance.modify;
@@ -45,12 +48,12 @@ public class OnlyDispatchVariableEventOnExistingConditionsTest {
       //given conditional event exist
 
       //when variable is set
-      execution.setVariable("v", 1);
+      execution.setVariable("var", 1);
 
       //then variable events should be delayed
       List<DelayedVariableEvent> delayedEvents = ((ExecutionEntity) execution).getDelayedEvents();
       assertEquals(1, delayedEvents.size());
-      assertEquals("v", delayedEvents.get(0).getEvent().getVariableInstance().getName());
+      assertEquals("var", delayedEvents.get(0).getEvent().getVariableInstance().getName());
     }
   }
 
@@ -155,6 +158,53 @@ public class OnlyDispatchVariableEventOnExistingConditionsTest {
     assertEquals(Boolean.TRUE, property);
   }
 
+  @Test
+  public void testProcessWithConditionalEventOnOtherVariable() {
+    //given
+    BpmnModelInstance modelInstance = Bpmn.createExecutableProcess(CONDITIONAL_EVENT_PROCESS_KEY)
+      .startEvent()
+      .serviceTask()
+      .camundaClass(CheckNoDelayedVariablesDelegate.class.getName())
+      .intermediateCatchEvent()
+      .conditionalEventDefinition()
+        .condition("${var==1}")
+      .conditionalEventDefinitionDone()
+      .endEvent()
+      .done();
+
+    //when process is deployed and instance created
+    rule.manageDeployment(rule.getRepositoryService().createDeployment().addModelInstance(CONDITIONAL_MODEL, modelInstance).deploy());
+    ProcessInstanceWithVariablesImpl processInstance = (ProcessInstanceWithVariablesImpl) rule.getRuntimeService().startProcessInstanceByKey(CONDITIONAL_EVENT_PROCESS_KEY);
+
+    //then process definition contains property with the variable names of the conditions
+    Object property = processInstance.getExecutionEntity().getProcessDefinition().getProperty(BpmnParse.PROPERTYNAME_CONDITIONAL_EVENT_VARIABLE_NAMES);
+    assertEquals(Collections.singleton("var"), property);
+  }
+
+  @Test
+  public void testProcessWithConditionalEventOnUnknownVariables() {
+    //given
+    BpmnModelInstance modelInstance = Bpmn.createExecutableProcess(CONDITIONAL_EVENT_PROCESS_KEY)
+      .startEvent()
+      .serviceTask()
+      .camundaClass(CheckDelayedVariablesDelegate.class.getName())
+      .intermediateCatchEvent()
+      .conditionalEventDefinition()
+        .condition("${execution.getVariable('var') == 1}")
+      .conditionalEventDefinitionDone()
+      .endEvent()
+      .done();
+
+    //when process is deployed and instance created
+    rule.manageDeployment(rule.getRepositoryService().createDeployment().addModelInstance(CONDITIONAL_MODEL, modelInstance).deploy());
+    ProcessInstanceWithVariablesImpl processInstance = (ProcessInstanceWithVariablesImpl) rule.getRuntimeService().startProcessInstanceByKey(CONDITIONAL_EVENT_PROCESS_KEY);
+
+    //then the variable names of the conditions are unknown
+    ProcessDefinitionImpl processDefinition = processInstance.getExecutionEntity().getProcessDefinition();
+    assertTrue(processDefinition.getProperties().contains(BpmnProperties.CONDITIONAL_EVENT_VARIABLE_NAMES));
+    assertNull(processDefinition.getProperties().get(BpmnProperties.CONDITIONAL_EVENT_VARIABLE_NAMES));
+  }
+
   @Test
   public void testProcessWithoutConditionalEvent() {
     //given
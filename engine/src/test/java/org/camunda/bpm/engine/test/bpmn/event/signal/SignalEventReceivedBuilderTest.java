@@ -19,12 +19,17 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
+import java.util.List;
 import java.util.Map;
 
+import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.batch.Batch;
+import org.camunda.bpm.engine.batch.BatchStatistics;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
 import org.camunda.bpm.engine.runtime.EventSubscription;
 import org.camunda.bpm.engine.runtime.Execution;
+import org.camunda.bpm.engine.runtime.Job;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.model.bpmn.Bpmn;
@@ -173,4 +178,128 @@ public class SignalEventReceivedBuilderTest extends PluggableProcessEngineTestCa
     }
   }
 
+  public void testSendSignalAsync() {
+    deployment(signalStartProcess("signalStart"), signalCatchProcess("signalCatch"));
+
+    runtimeService.startProcessInstanceByKey("signalCatch");
+    runtimeService.startProcessInstanceByKey("signalCatch");
+
+    Batch batch = runtimeService.createSignalEvent("signal").sendAsync();
+
+    assertThat(batch.getType(), is(Batch.TYPE_SIGNAL_EVENT_DELIVERY));
+    assertThat(batch.getTotalJobs(), is(3));
+    assertThat(taskService.createTaskQuery().count(), is(0L));
+
+    executeSeedJob(batch);
+    executeBatchJobs(batch);
+
+    assertThat(taskService.createTaskQuery().count(), is(3L));
+
+    BatchStatistics batchStatistics = managementService.createBatchStatisticsQuery().batchId(batch.getId()).singleResult();
+    assertThat(batchStatistics.getCompletedJobs(), is(3));
+
+    managementService.deleteBatch(batch.getId(), true);
+  }
+
+  public void testSendSignalAsyncSkipsRemovedEventSubscription() {
+    deployment(signalCatchProcess("signalCatch"));
+
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("signalCatch");
+    runtimeService.startProcessInstanceByKey("signalCatch");
+
+    Batch batch = runtimeService.createSignalEvent("signal").sendAsync();
+    executeSeedJob(batch);
+
+    runtimeService.deleteProcessInstance(processInstance.getId(), null);
+    executeBatchJobs(batch);
+
+    assertThat(taskService.createTaskQuery().count(), is(1L));
+
+    managementService.deleteBatch(batch.getId(), true);
+  }
+
+  public void testSendSignalAsyncResolvesEventSubscriptionsPageByPage() {
+    deployment(signalStartProcess("signalStart"), signalCatchProcess("signalCatch"));
+
+    runtimeService.startProcessInstanceByKey("signalCatch");
+    runtimeService.startProcessInstanceByKey("signalCatch");
+
+    int batchJobsPerSeed = processEngineConfiguration.getBatchJobsPerSeed();
+    processEngineConfiguration.setBatchJobsPerSeed(1);
+
+    try {
+      Batch batch = runtimeService.createSignalEvent("signal").sendAsync();
+
+      // every seed job resolves one event subscription, the last one finds no further subscription
+      for (int i = 0; i < 4; i++) {
+        executeSeedJob(batch);
+      }
+      assertThat(managementService.createJobQuery().jobDefinitionId(batch.getSeedJobDefinitionId()).count(), is(0L));
+      assertThat(managementService.createJobQuery().jobDefinitionId(batch.getBatchJobDefinitionId()).count(), is(3L));
+
+      executeBatchJobs(batch);
+
+      assertThat(taskService.createTaskQuery().count(), is(3L));
+
+      managementService.deleteBatch(batch.getId(), true);
+
+    } finally {
+      processEngineConfiguration.setBatchJobsPerSeed(batchJobsPerSeed);
+    }
+  }
+
+  public void testSendSignalAsyncIncludesEventSubscriptionCreatedAfterBatch() {
+    deployment(signalCatchProcess("signalCatch"));
+
+    runtimeService.startProcessInstanceByKey("signalCatch");
+
+    Batch batch = runtimeService.createSignalEvent("signal").sendAsync();
+    assertThat(batch.getTotalJobs(), is(1));
+
+    runtimeService.startProcessInstanceByKey("signalCatch");
+
+    executeSeedJob(batch);
+
+    batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+    assertThat(batch.getTotalJobs(), is(2));
+
+    executeBatchJobs(batch);
+
+    assertThat(taskService.createTaskQuery().count(), is(2L));
+
+    managementService.deleteBatch(batch.getId(), true);
+  }
+
+  public void testSendSignalAsyncWithExecutionId() {
+    try {
+      runtimeService.createSignalEvent("signal").executionId("executionId").sendAsync();
+      fail("expected exception");
+
+    } catch (BadUserRequestException e) {
+      assertThat(e.getMessage(), containsString("Cannot deliver a signal asynchronously to a single execution"));
+    }
+  }
+
+  public void testSendSignalAsyncWithVariables() {
+    try {
+      runtimeService.createSignalEvent("signal").setVariables(Variables.createVariables().putValue("var", "a")).sendAsync();
+      fail("expected exception");
+
+    } catch (BadUserRequestException e) {
+      assertThat(e.getMessage(), containsString("Cannot pass variables when deliver a signal asynchronously"));
+    }
+  }
+
+  protected void executeSeedJob(Batch batch) {
+    Job seedJob = managementService.createJobQuery().jobDefinitionId(batch.getSeedJobDefinitionId()).singleResult();
+    managementService.executeJob(seedJob.getId());
+  }
+
+  protected void executeBatchJobs(Batch batch) {
+    List<Job> batchJobs = managementService.createJobQuery().jobDefinitionId(batch.getBatchJobDefinitionId()).list();
+    for (Job batchJob : batchJobs) {
+      managementService.executeJob(batchJob.getId());
+    }
+  }
+
 }
@@ -24,6 +24,7 @@ import static org.camunda.bpm.engine.test.util.ActivityInstanceAssert.describeAc
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +35,10 @@ import org.camunda.bpm.engine.history.HistoricActivityInstance;
 import org.camunda.bpm.engine.history.HistoricProcessInstance;
 import org.camunda.bpm.engine.history.HistoricTaskInstance;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSession;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.camunda.bpm.engine.impl.interceptor.Session;
+import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
@@ -49,6 +54,7 @@ import org.camunda.bpm.engine.test.bpmn.event.error.ThrowErrorDelegate;
 import org.camunda.bpm.engine.test.util.ActivityInstanceAssert;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
 
 
 /**
@@ -1639,4 +1645,63 @@ public class MultiInstanceTest extends PluggableProcessEngineTestCase {
 
     taskService.complete(userTask.getId());
   }
+
+  public void testParallelCompletionDoesNotFetchOtherInstances() {
+    deployment(Bpmn.createExecutableProcess("miProcess")
+      .startEvent()
+      .userTask("task")
+        .multiInstance().cardinality("${nrOfTasks}").multiInstanceDone()
+      .endEvent()
+      .done());
+
+    boolean executionTreePrefetchEnabled = processEngineConfiguration.isExecutionTreePrefetchEnabled();
+    processEngineConfiguration.setExecutionTreePrefetchEnabled(false);
+    try {
+      // when completing one instance of a few and one instance of many
+      int fetchesForFewInstances = countChildExecutionFetchesOnCompletion(3);
+      int fetchesForManyInstances = countChildExecutionFetchesOnCompletion(10);
+
+      // then the child executions of the other instances are not fetched
+      assertEquals(fetchesForFewInstances, fetchesForManyInstances);
+    }
+    finally {
+      processEngineConfiguration.setExecutionTreePrefetchEnabled(executionTreePrefetchEnabled);
+    }
+  }
+
+  protected int countChildExecutionFetchesOnCompletion(int nrOfTasks) {
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miProcess",
+        Variables.createVariables().putValue("nrOfTasks", nrOfTasks));
+    Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).listPage(0, 1).get(0);
+
+    final List<String> selectStatements = new ArrayList<String>();
+    Map<Class<?>, SessionFactory> sessionFactories = processEngineConfiguration.getSessionFactories();
+    final DbSqlSessionFactory dbSqlSessionFactory = (DbSqlSessionFactory) sessionFactories.get(DbSqlSession.class);
+    sessionFactories.put(DbSqlSession.class, new SessionFactory() {
+      public Class<?> getSessionType() {
+        return DbSqlSession.class;
+      }
+      public Session openSession() {
+        return new DbSqlSession(dbSqlSessionFactory) {
+          public List<?> selectList(String statement, Object parameter) {
+            selectStatements.add(statement);
+            return super.selectList(statement, parameter);
+          }
+        };
+      }
+    });
+
+    try {
+      taskService.complete(task.getId());
+    }
+    finally {
+      sessionFactories.put(DbSqlSession.class, dbSqlSessionFactory);
+    }
+
+    // the multi-instance body is still waiting for the other instances
+    assertEquals(nrOfTasks - 1, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+
+    return Collections.frequency(selectStatements, "selectExecutionsByParentExecutionId");
+  }
+
 }
@@ -356,6 +356,28 @@ public class HistoricActivityInstanceTest extends PluggableProcessEngineTestCase
     assertEquals(0, historyService.createHistoricActivityInstanceQuery().activityId("theTask").finishedBefore(hourAgo.getTime()).finishedAfter(hourFromNow.getTime()).count());
   }
 
+  @Deployment(resources = {"org/camunda/bpm/engine/test/history/oneTaskProcess.bpmn20.xml"})
+  public void testHistoricActivityInstanceQueryByActivityInstanceIdAfter() {
+    runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    List<HistoricActivityInstance> all = historyService.createHistoricActivityInstanceQuery()
+      .orderByHistoricActivityInstanceId().asc()
+      .list();
+    assertTrue(all.size() > 2);
+
+    // when
+    String lastIdOfFirstPage = all.get(1).getId();
+    List<HistoricActivityInstance> nextPage = historyService.createHistoricActivityInstanceQuery()
+      .activityInstanceIdAfter(lastIdOfFirstPage)
+      .orderByHistoricActivityInstanceId().asc()
+      .list();
+
+    // then
+    assertEquals(all.size() - 2, nextPage.size());
+    assertEquals(all.get(2).getId(), nextPage.get(0).getId());
+  }
+
   @Deployment
   public void testHistoricActivityInstanceQueryByCompleteScope() {
     ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process");
@@ -32,10 +32,14 @@ import org.camunda.bpm.engine.exception.NullValueException;
 import org.camunda.bpm.engine.history.HistoricActivityInstance;
 import org.camunda.bpm.engine.history.HistoricProcessInstance;
 import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityCache;
 import org.camunda.bpm.engine.impl.history.HistoryLevel;
 import org.camunda.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.query.QueryResultHandler;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.runtime.Job;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
@@ -423,6 +427,113 @@ public class HistoricProcessInstanceTest extends PluggableProcessEngineTestCase
     }
   }
 
+  @Deployment(resources = {"org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void testHistoricProcessInstanceQueryForEach() {
+    List<String> processInstanceIds = new ArrayList<String>();
+    for (int i = 0; i < 3; i++) {
+      processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess", "businessKey" + i).getId());
+    }
+
+    final List<HistoricProcessInstance> results = new ArrayList<HistoricProcessInstance>();
+    historyService.createHistoricProcessInstanceQuery()
+      .processInstanceBusinessKeyLike("businessKey%")
+      .orderByProcessInstanceId().asc()
+      .forEach(new QueryResultHandler<HistoricProcessInstance>() {
+        public void handleResult(HistoricProcessInstance result) {
+          results.add(result);
+        }
+      });
+
+    List<HistoricProcessInstance> expected = historyService.createHistoricProcessInstanceQuery()
+      .orderByProcessInstanceId().asc()
+      .list();
+
+    assertEquals(3, results.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).getId(), results.get(i).getId());
+      assertTrue(processInstanceIds.contains(results.get(i).getId()));
+    }
+  }
+
+  @Deployment(resources = {"org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void testHistoricProcessInstanceQueryByProcessInstanceIdAfter() {
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    }
+    List<HistoricProcessInstance> all = historyService.createHistoricProcessInstanceQuery()
+      .orderByProcessInstanceId().asc()
+      .list();
+
+    // when
+    List<HistoricProcessInstance> firstPage = historyService.createHistoricProcessInstanceQuery()
+      .orderByProcessInstanceId().asc()
+      .listPage(0, 2);
+    List<HistoricProcessInstance> secondPage = historyService.createHistoricProcessInstanceQuery()
+      .processInstanceIdAfter(firstPage.get(1).getId())
+      .orderByProcessInstanceId().asc()
+      .listPage(0, 2);
+
+    // then
+    assertEquals(2, firstPage.size());
+    assertEquals(1, secondPage.size());
+    assertEquals(all.get(2).getId(), secondPage.get(0).getId());
+    assertEquals(0, historyService.createHistoricProcessInstanceQuery().processInstanceIdAfter(all.get(2).getId()).count());
+  }
+
+  public void testHistoricProcessInstanceQueryByProcessInstanceIdAfterNull() {
+    try {
+      historyService.createHistoricProcessInstanceQuery().processInstanceIdAfter(null);
+      fail("processInstanceIdAfter with null value is not allowed");
+    } catch (NullValueException e) {
+      // expected
+    }
+  }
+
+  @Deployment(resources = {"org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void testHistoricProcessInstanceQueryForEachDoesNotCacheResults() {
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("oneTaskProcess", "businessKey" + i);
+    }
+
+    final List<Integer> cacheSizes = new ArrayList<Integer>();
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        final DbEntityCache entityCache = commandContext.getDbEntityManager().getDbEntityCache();
+        cacheSizes.add(entityCache.getCachedEntities().size());
+
+        historyService.createHistoricProcessInstanceQuery()
+          .processInstanceBusinessKeyLike("businessKey%")
+          .forEach(new QueryResultHandler<HistoricProcessInstance>() {
+            public void handleResult(HistoricProcessInstance result) {
+              cacheSizes.add(entityCache.getCachedEntities().size());
+            }
+          });
+
+        cacheSizes.add(entityCache.getCachedEntities().size());
+        return null;
+      }
+    });
+
+    // the cache size before, during and after the iteration is the same
+    assertEquals(5, cacheSizes.size());
+    for (Integer cacheSize : cacheSizes) {
+      assertEquals(cacheSizes.get(0), cacheSize);
+    }
+  }
+
+  public void testHistoricProcessInstanceQueryForEachWithoutResults() {
+    final List<HistoricProcessInstance> results = new ArrayList<HistoricProcessInstance>();
+    historyService.createHistoricProcessInstanceQuery()
+      .processInstanceId("nonExisting")
+      .forEach(new QueryResultHandler<HistoricProcessInstance>() {
+        public void handleResult(HistoricProcessInstance result) {
+          results.add(result);
+        }
+      });
+
+    assertTrue(results.isEmpty());
+  }
+
   @Deployment(resources = {"org/camunda/bpm/engine/test/history/oneAsyncTaskProcess.bpmn20.xml"})
   public void testHistoricProcessInstanceQuery() {
     Calendar startTime = Calendar.getInstance();
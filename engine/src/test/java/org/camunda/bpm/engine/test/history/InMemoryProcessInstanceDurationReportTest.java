@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.history;
+
+import static org.camunda.bpm.engine.query.PeriodUnit.MONTH;
+import static org.camunda.bpm.engine.query.PeriodUnit.QUARTER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.history.DurationReportResult;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.history.analytics.InitializeProcessInstanceDurationStoreCmd;
+import org.camunda.bpm.engine.impl.history.analytics.ProcessInstanceDurationStore;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+public class InMemoryProcessInstanceDurationReportTest {
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      configuration.setInMemoryDurationReportEnabled(true);
+      return configuration;
+    }
+  };
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  public ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+  protected HistoryService historyService;
+  protected ProcessInstanceDurationStore store;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+    historyService = engineRule.getHistoryService();
+    store = engineRule.getProcessEngineConfiguration().getProcessInstanceDurationStore();
+    store.clear();
+
+    testRule.deploy(Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .userTask()
+      .endEvent()
+      .done());
+  }
+
+  @After
+  public void tearDown() {
+    ClockUtil.reset();
+    store.clear();
+  }
+
+  @Test
+  public void testDurationReportByMonth() {
+    // given
+    startAndCompleteProcessInstance(date(2016, 0, 1, 10), 1000);
+    startAndCompleteProcessInstance(date(2016, 0, 15, 10), 3000);
+    startAndCompleteProcessInstance(date(2016, 1, 1, 10), 5000);
+
+    // when
+    List<DurationReportResult> results = historyService
+        .createHistoricProcessInstanceReport()
+        .duration(MONTH);
+
+    // then
+    assertEquals(2, results.size());
+    assertResult(results.get(0), 1, 1000, 3000, 2000);
+    assertResult(results.get(1), 2, 5000, 5000, 5000);
+  }
+
+  @Test
+  public void testDurationReportByQuarter() {
+    // given
+    startAndCompleteProcessInstance(date(2016, 0, 1, 10), 1000);
+    startAndCompleteProcessInstance(date(2016, 2, 31, 10), 3000);
+    startAndCompleteProcessInstance(date(2016, 3, 1, 10), 5000);
+
+    // when
+    List<DurationReportResult> results = historyService
+        .createHistoricProcessInstanceReport()
+        .duration(QUARTER);
+
+    // then
+    assertEquals(2, results.size());
+    assertResult(results.get(0), 1, 1000, 3000, 2000);
+    assertResult(results.get(1), 2, 5000, 5000, 5000);
+  }
+
+  @Test
+  public void testDurationReportStartedAfterAndBeforeDayBoundaries() {
+    // given
+    startAndCompleteProcessInstance(date(2016, 0, 1, 10), 1000);
+    startAndCompleteProcessInstance(date(2016, 0, 2, 10), 3000);
+    startAndCompleteProcessInstance(date(2016, 0, 3, 10), 5000);
+
+    // when
+    List<DurationReportResult> results = historyService
+        .createHistoricProcessInstanceReport()
+        .startedAfter(date(2016, 0, 2, 0))
+        .startedBefore(new Date(date(2016, 0, 3, 0).getTime() - 1))
+        .duration(MONTH);
+
+    // then
+    assertEquals(1, results.size());
+    assertResult(results.get(0), 1, 3000, 3000, 3000);
+  }
+
+  @Test
+  public void testDurationReportStartedAfterWithinDay() {
+    // given
+    startAndCompleteProcessInstance(date(2016, 0, 1, 10), 1000);
+    startAndCompleteProcessInstance(date(2016, 0, 1, 14), 3000);
+
+    // when the bound is not aligned to a day
+    List<DurationReportResult> results = historyService
+        .createHistoricProcessInstanceReport()
+        .startedAfter(date(2016, 0, 1, 12))
+        .duration(MONTH);
+
+    // then the report is answered by the database
+    assertEquals(1, results.size());
+    assertResult(results.get(0), 1, 3000, 3000, 3000);
+  }
+
+  @Test
+  public void testInitializeStoreFromHistory() {
+    // given
+    startAndCompleteProcessInstance(date(2016, 0, 1, 10), 1000);
+    startAndCompleteProcessInstance(date(2016, 0, 15, 10), 3000);
+    startAndCompleteProcessInstance(date(2016, 0, 20, 10), 5000);
+    store.clear();
+
+    // when the store is initialized with one instance per page
+    CommandExecutor commandExecutor = engineRule.getProcessEngineConfiguration().getCommandExecutorTxRequired();
+    String processInstanceIdAfter = null;
+    int pages = 0;
+    do {
+      processInstanceIdAfter = commandExecutor.execute(new InitializeProcessInstanceDurationStoreCmd(store, processInstanceIdAfter, 1));
+      pages++;
+    } while (processInstanceIdAfter != null);
+
+    // then every instance is added exactly once
+    assertEquals(4, pages);
+
+    List<DurationReportResult> results = historyService
+        .createHistoricProcessInstanceReport()
+        .duration(MONTH);
+
+    assertEquals(1, results.size());
+    assertResult(results.get(0), 1, 1000, 5000, 3000);
+  }
+
+  @Test
+  public void testUnfinishedProcessInstanceIsNotReported() {
+    // given
+    ClockUtil.setCurrentTime(date(2016, 0, 1, 10));
+    runtimeService.startProcessInstanceByKey("process");
+
+    // when
+    List<DurationReportResult> results = historyService
+        .createHistoricProcessInstanceReport()
+        .duration(MONTH);
+
+    // then
+    assertEquals(0, results.size());
+  }
+
+  protected void startAndCompleteProcessInstance(Date startTime, long duration) {
+    ClockUtil.setCurrentTime(startTime);
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process");
+
+    ClockUtil.setCurrentTime(new Date(startTime.getTime() + duration));
+    String taskId = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId();
+    taskService.complete(taskId);
+  }
+
+  protected void assertResult(DurationReportResult result, int period, long minimum, long maximum, long average) {
+    assertNotNull(result);
+    assertEquals(period, result.getPeriod());
+    assertEquals(minimum, result.getMinimum());
+    assertEquals(maximum, result.getMaximum());
+    assertEquals(average, result.getAverage());
+  }
+
+  protected static Date date(int year, int month, int dayOfMonth, int hourOfDay) {
+    Calendar calendar = Calendar.getInstance();
+    calendar.clear();
+    calendar.set(year, month, dayOfMonth, hourOfDay, 0);
+    return calendar.getTime();
+  }
+
+}
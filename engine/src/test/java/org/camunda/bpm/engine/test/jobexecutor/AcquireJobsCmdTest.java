@@ -27,6 +27,7 @@ import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.runtime.Job;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.model.bpmn.Bpmn;
 
 /**
  *
@@ -83,6 +84,55 @@ public class AcquireJobsCmdTest extends PluggableProcessEngineTestCase {
     assertEquals(0, acquiredJobs.size());
   }
 
+  public void testAcquireExclusiveJobsByProcessInstance() {
+    deployment(Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .parallelGateway("fork")
+        .serviceTask().camundaAsyncBefore().camundaExpression("${true}")
+        .endEvent()
+      .moveToNode("fork")
+        .serviceTask().camundaAsyncBefore().camundaExpression("${true}")
+        .endEvent()
+      .moveToNode("fork")
+        .serviceTask().camundaAsyncBefore().camundaExpression("${true}")
+        .endEvent()
+      .done());
+    runtimeService.startProcessInstanceByKey("process");
+
+    processEngineConfiguration.setJobExecutorAcquireExclusiveJobsByProcessInstance(true);
+    try {
+      // when acquiring a single job
+      AcquiredJobs acquiredJobs = executeAcquireJobsCommand(1);
+
+      // then all exclusive jobs of the process instance are acquired in one batch
+      assertEquals(3, acquiredJobs.size());
+      assertEquals(1, acquiredJobs.getJobIdBatches().size());
+      assertEquals(3, acquiredJobs.getJobIdBatches().get(0).size());
+    }
+    finally {
+      processEngineConfiguration.setJobExecutorAcquireExclusiveJobsByProcessInstance(false);
+    }
+  }
+
+  public void testAcquireExclusiveJobsOfPageOnlyByDefault() {
+    deployment(Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .parallelGateway("fork")
+        .serviceTask().camundaAsyncBefore().camundaExpression("${true}")
+        .endEvent()
+      .moveToNode("fork")
+        .serviceTask().camundaAsyncBefore().camundaExpression("${true}")
+        .endEvent()
+      .done());
+    runtimeService.startProcessInstanceByKey("process");
+
+    // when
+    AcquiredJobs acquiredJobs = executeAcquireJobsCommand(1);
+
+    // then
+    assertEquals(1, acquiredJobs.size());
+  }
+
   protected void makeSureJobDue(final Job job) {
     processEngineConfiguration.getCommandExecutorTxRequired()
       .execute(new Command<Void>() {
@@ -102,4 +152,9 @@ public class AcquireJobsCmdTest extends PluggableProcessEngineTestCase {
       .execute(new AcquireJobsCmd(processEngineConfiguration.getJobExecutor()));
   }
 
+  private AcquiredJobs executeAcquireJobsCommand(int numJobsToAcquire) {
+    return processEngineConfiguration.getCommandExecutorTxRequired()
+      .execute(new AcquireJobsCmd(processEngineConfiguration.getJobExecutor(), numJobsToAcquire));
+  }
+
 }
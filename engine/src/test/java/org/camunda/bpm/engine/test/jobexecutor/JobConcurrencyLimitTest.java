@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2013-2019 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.jobexecutor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.AcquireJobsCmd;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.AcquiredJobs;
+import org.camunda.bpm.engine.impl.jobexecutor.JobConcurrencyLimiter;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.management.JobDefinition;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class JobConcurrencyLimitTest {
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected ManagementService managementService;
+  protected ProcessEngineConfigurationImpl configuration;
+  protected JobExecutor jobExecutor;
+  protected JobConcurrencyLimiter concurrencyLimiter;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    managementService = engineRule.getManagementService();
+    configuration = engineRule.getProcessEngineConfiguration();
+    jobExecutor = configuration.getJobExecutor();
+
+    concurrencyLimiter = new JobConcurrencyLimiter();
+    jobExecutor.setJobConcurrencyLimiter(concurrencyLimiter);
+
+    testRule.deploy(createAsyncProcess("floodProcess"), createAsyncProcess("otherProcess"));
+  }
+
+  @After
+  public void resetLimiter() {
+    jobExecutor.setJobConcurrencyLimiter(new JobConcurrencyLimiter());
+  }
+
+  @Test
+  public void testDefaultLimitPerJobDefinition() {
+    // given
+    concurrencyLimiter.setDefaultMaxConcurrentJobs(2);
+    startProcessInstances("floodProcess", 5);
+    startProcessInstances("otherProcess", 1);
+
+    // when
+    AcquiredJobs acquiredJobs = acquireJobs();
+
+    // then only two jobs of the flooding job definition are acquired
+    assertEquals(3, acquiredJobs.size());
+    assertEquals(2, concurrencyLimiter.getAcquiredJobs(getJobDefinitionId("floodProcess")));
+    assertEquals(1, concurrencyLimiter.getAcquiredJobs(getJobDefinitionId("otherProcess")));
+
+    // and no further jobs are acquired while the limit is reached
+    assertEquals(0, acquireJobs().size());
+  }
+
+  @Test
+  public void testReleasedJobFreesSlot() {
+    // given
+    concurrencyLimiter.setDefaultMaxConcurrentJobs(1);
+    startProcessInstances("floodProcess", 3);
+
+    AcquiredJobs acquiredJobs = acquireJobs();
+    assertEquals(1, acquiredJobs.size());
+
+    // when
+    concurrencyLimiter.release(acquiredJobs.getJobIdBatches().get(0).get(0));
+
+    // then
+    assertEquals(1, acquireJobs().size());
+  }
+
+  @Test
+  public void testRolledBackAcquisitionFreesSlot() {
+    // given
+    concurrencyLimiter.setDefaultMaxConcurrentJobs(1);
+    startProcessInstances("floodProcess", 3);
+    final String jobDefinitionId = getJobDefinitionId("floodProcess");
+
+    // when the transaction of the acquisition is rolled back
+    try {
+      configuration.getCommandExecutorTxRequired().execute(new Command<Void>() {
+        public Void execute(CommandContext commandContext) {
+          AcquiredJobs acquiredJobs = new AcquireJobsCmd(jobExecutor, 10).execute(commandContext);
+          assertEquals(1, acquiredJobs.size());
+          assertEquals(1, concurrencyLimiter.getAcquiredJobs(jobDefinitionId));
+
+          throw new ProcessEngineException("expected exception");
+        }
+      });
+      fail("exception expected");
+    }
+    catch (ProcessEngineException e) {
+      assertEquals("expected exception", e.getMessage());
+    }
+
+    // then the slot is released and the job can be acquired again
+    assertEquals(0, concurrencyLimiter.getAcquiredJobs(jobDefinitionId));
+    assertEquals(1, acquireJobs().size());
+  }
+
+  @Test
+  public void testLimitForJobDefinition() {
+    // given
+    concurrencyLimiter.setMaxConcurrentJobs(getJobDefinitionId("floodProcess"), 1);
+    startProcessInstances("floodProcess", 3);
+    startProcessInstances("otherProcess", 3);
+
+    // when
+    AcquiredJobs acquiredJobs = acquireJobs();
+
+    // then the other job definition is not limited
+    assertEquals(4, acquiredJobs.size());
+  }
+
+  @Test
+  public void testNoLimitByDefault() {
+    // given
+    startProcessInstances("floodProcess", 5);
+
+    // when
+    AcquiredJobs acquiredJobs = acquireJobs();
+
+    // then
+    assertEquals(5, acquiredJobs.size());
+    assertEquals(0, concurrencyLimiter.getAcquiredJobs(getJobDefinitionId("floodProcess")));
+  }
+
+  protected AcquiredJobs acquireJobs() {
+    return configuration.getCommandExecutorTxRequired().execute(new AcquireJobsCmd(jobExecutor, 10));
+  }
+
+  protected void startProcessInstances(String processDefinitionKey, int count) {
+    for (int i = 0; i < count; i++) {
+      runtimeService.startProcessInstanceByKey(processDefinitionKey);
+    }
+  }
+
+  protected String getJobDefinitionId(String processDefinitionKey) {
+    List<JobDefinition> jobDefinitions = managementService.createJobDefinitionQuery()
+        .processDefinitionKey(processDefinitionKey)
+        .list();
+    assertEquals(1, jobDefinitions.size());
+    return jobDefinitions.get(0).getId();
+  }
+
+  protected static BpmnModelInstance createAsyncProcess(String processDefinitionKey) {
+    return Bpmn.createExecutableProcess(processDefinitionKey)
+      .startEvent()
+      .serviceTask()
+        .camundaAsyncBefore()
+        .camundaExpression("${true}")
+      .endEvent()
+      .done();
+  }
+
+}